@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Builds the application and the benchmarks, then runs them with allocation profiling.
+# Results are written to results/<commit>.json so runs from different commits can be compared.
+# Extra arguments are passed to JMH, e.g. "./run-benchmarks.sh StatisticsUtilBenchmark -p size=5".
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+(cd ../student-scoring-system && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+commit=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ../student-scoring-system; then
+    commit="${commit}-dirty"
+fi
+
+# Benchmarks that need a database only run when selected explicitly
+if [ $# -eq 0 ]; then
+    set -- -e ScoreIndexBenchmark
+fi
+
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/${commit}.json" "$@"
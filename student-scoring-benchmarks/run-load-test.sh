@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Starts the application once on platform threads and once on virtual threads and drives the same
+# HTTP load against both with hey (https://github.com/rakyll/hey), so the two modes can be compared.
+# Needs the PostgreSQL database from application.properties (or SPRING_DATASOURCE_* variables).
+# Results are written to results/load-<commit>-<mode>.txt.
+# Usage: ./run-load-test.sh [concurrency] [requests] [path]
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+concurrency=${1:-200}
+requests=${2:-20000}
+path=${3:-/api/v1/reports/all?size=20}
+port=${LOAD_TEST_PORT:-8090}
+
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+
+(cd ../student-scoring-system && mvn -B -q package -DskipTests)
+jar=$(ls ../student-scoring-system/target/student-scoring-system-*-exec.jar)
+
+commit=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ../student-scoring-system; then
+    commit="${commit}-dirty"
+fi
+mkdir -p results
+
+for virtual in false true; do
+    mode=$([ "$virtual" = true ] && echo virtual || echo platform)
+    java -jar "$jar" --spring.profiles.active=prod --server.port="$port" --spring.threads.virtual.enabled="$virtual" >"results/load-${commit}-${mode}.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "http://localhost:${port}/actuator/health" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "Application failed to start, see results/load-${commit}-${mode}.log" >&2; exit 1; }
+        sleep 1
+    done
+
+    # Warm up, then measure
+    hey -n 2000 -c 20 "http://localhost:${port}${path}" >/dev/null
+    echo "== ${mode} threads, ${concurrency} concurrent, ${requests} requests: ${path}" | tee "results/load-${commit}-${mode}.txt"
+    hey -n "$requests" -c "$concurrency" "http://localhost:${port}${path}" | tee -a "results/load-${commit}-${mode}.txt"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
@@ -0,0 +1,57 @@
+package com.studentscoringapp.benchmark;
+
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.projection.SubjectScoreRow;
+import com.studentscoringapp.util.ReportAssembler;
+import com.studentscoringapp.util.ScoreSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the full report assembly for one student, as done by ReportServiceImpl for each row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ReportAssemblyBenchmark {
+
+    @Param({"5", "100", "1000", "10000"})
+    private int size;
+
+    private StudentRow student;
+    private List<SubjectScoreRow> scores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        student = new StudentRow(1L, "John", "Doe", "john.doe@example.com", "ST001", null, null);
+
+        scores = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            scores.add(new SubjectScoreRow(student.id(), "Subject" + i, random.nextInt(ScoreSummary.MAX_SCORE + 1)));
+        }
+    }
+
+    @Benchmark
+    public ReportDto createReportDto() {
+        return ReportAssembler.createReportDto(student, scores);
+    }
+}
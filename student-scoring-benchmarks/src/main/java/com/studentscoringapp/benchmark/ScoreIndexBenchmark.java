@@ -0,0 +1,152 @@
+package com.studentscoringapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the report queries of ScoreRepository against PostgreSQL with 1M score rows
+ * (200,000 students with 5 subjects each), with and without the indexes on the scores table.
+ *
+ * <p>Needs a PostgreSQL database, set with {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user}
+ * and {@code -Dbenchmark.jdbc.password}. The data is created once in the {@code score_index_benchmark}
+ * schema and reused by later runs.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreIndexBenchmark {
+
+    private static final String SCHEMA = "score_index_benchmark";
+    private static final int STUDENTS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] SUBJECTS = {"Mathematics", "English", "Science", "History", "Geography"};
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement studentScores;
+    private PreparedStatement pageScores;
+    private PreparedStatement subjectScore;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/student_scoring_db"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            seed(statement);
+
+            if (indexed) {
+                statement.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_scores_student_subject ON scores (student_id, subject)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_scores_subject_score ON scores (subject, score DESC, student_id)");
+            } else {
+                statement.execute("DROP INDEX IF EXISTS uk_scores_student_subject");
+                statement.execute("DROP INDEX IF EXISTS idx_scores_subject_score");
+            }
+            statement.execute("ANALYZE scores");
+        }
+
+        // The queries behind the single report, a report page and a single score lookup
+        studentScores = connection.prepareStatement(
+                "SELECT id, student_id, subject, score FROM scores WHERE student_id = ?");
+        pageScores = connection.prepareStatement(
+                "SELECT id, student_id, subject, score FROM scores WHERE student_id = ANY (?)");
+        subjectScore = connection.prepareStatement(
+                "SELECT id, student_id, subject, score FROM scores WHERE student_id = ? AND subject = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void studentReport(Blackhole blackhole) throws SQLException {
+        studentScores.setLong(1, randomStudentId());
+        consume(studentScores, blackhole);
+    }
+
+    @Benchmark
+    public void reportPage(Blackhole blackhole) throws SQLException {
+        Long[] studentIds = new Long[PAGE_SIZE];
+        long first = 1 + random.nextInt(STUDENTS - PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            studentIds[i] = first + i;
+        }
+
+        Array ids = connection.createArrayOf("bigint", studentIds);
+        pageScores.setArray(1, ids);
+        consume(pageScores, blackhole);
+        ids.free();
+    }
+
+    @Benchmark
+    public void subjectScore(Blackhole blackhole) throws SQLException {
+        subjectScore.setLong(1, randomStudentId());
+        subjectScore.setString(2, SUBJECTS[random.nextInt(SUBJECTS.length)]);
+        consume(subjectScore, blackhole);
+    }
+
+    private long randomStudentId() {
+        return 1 + random.nextInt(STUDENTS);
+    }
+
+    private void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getInt(4));
+            }
+        }
+    }
+
+    private void seed(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE IF NOT EXISTS scores (" +
+                "id BIGSERIAL PRIMARY KEY, " +
+                "student_id BIGINT NOT NULL, " +
+                "subject VARCHAR(255) NOT NULL, " +
+                "score INTEGER NOT NULL)");
+
+        try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM scores")) {
+            resultSet.next();
+            if (resultSet.getLong(1) == (long) STUDENTS * SUBJECTS.length) {
+                return;
+            }
+        }
+
+        statement.execute("TRUNCATE scores");
+        statement.execute("INSERT INTO scores (student_id, subject, score) " +
+                "SELECT s, subject, (s * 7 + length(subject) * 13) % 101 " +
+                "FROM generate_series(1, " + STUDENTS + ") s, " +
+                "unnest(ARRAY['" + String.join("', '", SUBJECTS) + "']) subject");
+    }
+}
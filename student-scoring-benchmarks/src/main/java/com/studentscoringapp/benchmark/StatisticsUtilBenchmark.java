@@ -0,0 +1,102 @@
+package com.studentscoringapp.benchmark;
+
+import com.studentscoringapp.util.ScoreSummary;
+import com.studentscoringapp.util.StatisticsUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each StatisticsUtil method against the single-pass ScoreSummary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StatisticsUtilBenchmark {
+
+    @Param({"5", "100", "1000", "10000"})
+    private int size;
+
+    private List<Integer> scores;
+    private int[] scoreValues;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        scores = new ArrayList<>(size);
+        scoreValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            int score = random.nextInt(ScoreSummary.MAX_SCORE + 1);
+            scores.add(score);
+            scoreValues[i] = score;
+        }
+    }
+
+    @Benchmark
+    public Double calculateMean() {
+        return StatisticsUtil.calculateMean(scores);
+    }
+
+    @Benchmark
+    public Double calculateMedian() {
+        return StatisticsUtil.calculateMedian(scores);
+    }
+
+    @Benchmark
+    public Integer calculateMode() {
+        return StatisticsUtil.calculateMode(scores);
+    }
+
+    @Benchmark
+    public Integer calculateTotal() {
+        return StatisticsUtil.calculateTotal(scores);
+    }
+
+    @Benchmark
+    public Integer findMax() {
+        return StatisticsUtil.findMax(scores);
+    }
+
+    @Benchmark
+    public Integer findMin() {
+        return StatisticsUtil.findMin(scores);
+    }
+
+    @Benchmark
+    public void allStatisticsUtil(Blackhole blackhole) {
+        blackhole.consume(StatisticsUtil.calculateMean(scores));
+        blackhole.consume(StatisticsUtil.calculateMedian(scores));
+        blackhole.consume(StatisticsUtil.calculateMode(scores));
+        blackhole.consume(StatisticsUtil.calculateTotal(scores));
+        blackhole.consume(StatisticsUtil.findMax(scores));
+        blackhole.consume(StatisticsUtil.findMin(scores));
+    }
+
+    @Benchmark
+    public void allScoreSummary(Blackhole blackhole) {
+        ScoreSummary summary = ScoreSummary.of(scoreValues);
+        blackhole.consume(summary.getMean());
+        blackhole.consume(summary.getMedian());
+        blackhole.consume(summary.getMode());
+        blackhole.consume(summary.getTotal());
+        blackhole.consume(summary.getMax());
+        blackhole.consume(summary.getMin());
+    }
+}
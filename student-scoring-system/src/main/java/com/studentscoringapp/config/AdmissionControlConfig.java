@@ -0,0 +1,70 @@
+package com.studentscoringapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Registers the {@link AdmissionControlFilter} for the API endpoints when
+ * {@code app.admission.enabled=true}, which is the default in virtual-thread mode.
+ *
+ * <p>Admitted requests share the connection pool with connections that are not taken by a request:
+ * the parallel report workers ({@code app.reports.parallel.threads}, when enabled), the report job
+ * workers ({@code app.reports.jobs.threads}) and the report job scheduler. Without an explicit
+ * {@code app.admission.max-concurrent-requests} the limit is the pool size minus those
+ * reservations, and startup fails when an explicit limit plus the reservations exceeds the pool.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true")
+@Slf4j
+public class AdmissionControlConfig {
+
+    // The report job scheduler thread: progress and heartbeat saves, takeovers and result cleanup
+    static final int JOB_PROGRESS_CONNECTIONS = 1;
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            @Value("${app.admission.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${app.admission.acquire-timeout}") Duration acquireTimeout,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.reports.parallel.enabled:false}") boolean parallelEnabled,
+            @Value("${app.reports.parallel.threads:4}") int parallelThreads,
+            @Value("${app.reports.jobs.threads:2}") int jobThreads,
+            ObjectMapper objectMapper) {
+        int reservedConnections = reservedConnections(parallelEnabled, parallelThreads, jobThreads);
+        int limit = requestLimit(maxConcurrentRequests, maximumPoolSize, reservedConnections);
+        log.info("Admitting up to {} concurrent API requests ({} of {} pooled connections reserved)",
+                limit, reservedConnections, maximumPoolSize);
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(limit, acquireTimeout, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    static int reservedConnections(boolean parallelEnabled, int parallelThreads, int jobThreads) {
+        return (parallelEnabled ? parallelThreads : 0) + jobThreads + JOB_PROGRESS_CONNECTIONS;
+    }
+
+    /**
+     * Resolves the request limit; a configured limit of 0 or less means the pool size minus the
+     * reserved connections.
+     */
+    static int requestLimit(int configuredLimit, int maximumPoolSize, int reservedConnections) {
+        int limit = configuredLimit > 0 ? configuredLimit : maximumPoolSize - reservedConnections;
+        if (limit < 1 || limit + reservedConnections > maximumPoolSize) {
+            throw new IllegalStateException(String.format(
+                    "app.admission.max-concurrent-requests (%s) plus the %d connections reserved for report workers " +
+                            "and jobs must fit in spring.datasource.hikari.maximum-pool-size (%d)",
+                    configuredLimit > 0 ? String.valueOf(configuredLimit) : "derived " + limit,
+                    reservedConnections, maximumPoolSize));
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,16 @@
+package com.studentscoringapp.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the caches configured under {@code spring.cache.*}. Caffeine statistics are published
+ * as {@code cache.*} metrics on the actuator metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDENTS = "students";
+    public static final String STUDENT_REPORTS = "studentReports";
+}
@@ -0,0 +1,22 @@
+package com.studentscoringapp.config;
+
+import com.studentscoringapp.service.ReportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumes, or fails, the report jobs that were queued or running when the application last stopped.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportJobRecoveryRunner implements ApplicationRunner {
+
+    private final ReportJobService reportJobService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reportJobService.recoverUnfinishedJobs();
+    }
+}
@@ -0,0 +1,38 @@
+package com.studentscoringapp.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the data source in a datasource-proxy that reports slow statements to the
+ * {@link SlowQueryListener}, when {@code app.sql.slow-query.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.slow-query.enabled", havingValue = "true")
+public class SlowQueryLoggingConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            @Value("${app.sql.slow-query.threshold:200ms}") Duration threshold,
+            @Value("${app.sql.slow-query.sample-rate:1.0}") double sampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new SlowQueryListener(threshold, sampleRate))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
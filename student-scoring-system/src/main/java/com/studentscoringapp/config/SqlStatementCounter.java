@@ -0,0 +1,39 @@
+package com.studentscoringapp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open.
+ *
+ * <p>Statements issued through Hibernate (JPQL, criteria and native queries, entity writes) are
+ * counted; plain JDBC such as the streaming export is not, and neither is work handed to other
+ * threads.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Ends the count on the current thread.
+     *
+     * @return the statements counted since {@link #start()}
+     */
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,75 @@
+package com.studentscoringapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publishes how many SQL statements each API request issued as the {@code app.request.sql.statements}
+ * distribution, tagged with the endpoint, the HTTP method and the requested page size, so a growing
+ * number of queries per request shows up next to the request latency.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "app.request.sql.statements";
+
+    // Page sizes are reported by the smallest bucket they fit in, to keep the tag values few
+    private static final int[] PAGE_SIZE_BUCKETS = {10, 20, 50, 100, 200, 500, 1000};
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        long statements;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+
+        // Streaming responses continue on another thread, so their count would be incomplete
+        if (request.isAsyncStarted()) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued by one request")
+                .baseUnit("statements")
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .tag("method", request.getMethod())
+                .tag("page.size", pageSize(request.getParameter("size")))
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    static String pageSize(String size) {
+        if (size == null) {
+            return "none";
+        }
+        try {
+            int value = Integer.parseInt(size.trim());
+            for (int bucket : PAGE_SIZE_BUCKETS) {
+                if (value <= bucket) {
+                    return String.valueOf(bucket);
+                }
+            }
+            return "more";
+        } catch (NumberFormatException ex) {
+            return "invalid";
+        }
+    }
+}
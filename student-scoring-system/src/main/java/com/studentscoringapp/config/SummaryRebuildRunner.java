@@ -0,0 +1,25 @@
+package com.studentscoringapp.config;
+
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills student_score_summary from the scores table when the application is started with
+ * {@code --app.summaries.rebuild-on-startup=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.summaries.rebuild-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+public class SummaryRebuildRunner implements ApplicationRunner {
+
+    private final StudentScoreSummaryService studentScoreSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        studentScoreSummaryService.rebuildAllSummaries();
+    }
+}
@@ -2,16 +2,35 @@ package com.studentscoringapp.controller;
 
 import com.studentscoringapp.dto.ReportDto;
 import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.ReportJobDto;
+import com.studentscoringapp.dto.ReportJobRequestDto;
+import com.studentscoringapp.dto.StudentRankDto;
+import com.studentscoringapp.dto.SubjectRankDto;
+import com.studentscoringapp.dto.SubjectStatisticsDto;
+import com.studentscoringapp.service.CountMode;
+import com.studentscoringapp.service.ExportFormat;
+import com.studentscoringapp.service.RankingService;
+import com.studentscoringapp.service.ReportExportService;
+import com.studentscoringapp.service.ReportJobService;
 import com.studentscoringapp.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/reports")
@@ -20,6 +39,9 @@ import org.springframework.web.bind.annotation.*;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
+    private final RankingService rankingService;
+    private final ReportJobService reportJobService;
 
     @GetMapping("/student/{studentId}")
     @Operation(summary = "Generate student report",
@@ -40,7 +62,10 @@ public class ReportController {
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir,
             @Parameter(description = "Filter by first name") @RequestParam(required = false) String firstName,
             @Parameter(description = "Filter by last name") @RequestParam(required = false) String lastName,
-            @Parameter(description = "Filter by email") @RequestParam(required = false) String email) {
+            @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Cursor from a previous page's nextCursor; overrides page, sortBy and sortDir")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count: exact, estimated or none") @RequestParam(defaultValue = "exact") String count) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() :
@@ -48,10 +73,91 @@ public class ReportController {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        PagedResponse<ReportDto> reports = (firstName != null || lastName != null || email != null) ?
-                reportService.generateFilteredReport(firstName, lastName, email, pageable) :
-                reportService.generateAllStudentsReport(pageable);
+        PagedResponse<ReportDto> reports = reportService.generateReports(firstName, lastName, email,
+                pageable, cursor, CountMode.fromParameter(count));
 
         return ResponseEntity.ok(reports);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all student reports",
+            description = "Streams the report of every student as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @Parameter(description = "Output format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+
+        StreamingResponseBody body = outputStream -> reportExportService.exportReports(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reports." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/rankings")
+    @Operation(summary = "Get class ranking",
+            description = "Lists students by total score, highest first, with their class rank")
+    public ResponseEntity<PagedResponse<StudentRankDto>> getRanking(
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor from a previous page's nextCursor; overrides page")
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(rankingService.getRanking(page, size, cursor));
+    }
+
+    @GetMapping("/student/{studentId}/rank")
+    @Operation(summary = "Get student rank",
+            description = "Returns a student's class rank by total score and its percentile")
+    public ResponseEntity<StudentRankDto> getStudentRank(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+        return ResponseEntity.ok(rankingService.getStudentRank(studentId));
+    }
+
+    @GetMapping("/subjects/{subject}/statistics")
+    @Operation(summary = "Generate subject statistics",
+            description = "Generates cohort statistics and a score histogram for one subject")
+    public ResponseEntity<SubjectStatisticsDto> generateSubjectStatistics(
+            @Parameter(description = "Subject name") @PathVariable String subject) {
+        return ResponseEntity.ok(reportService.generateSubjectStatistics(subject));
+    }
+
+    @GetMapping("/subjects/{subject}/top")
+    @Operation(summary = "Get top students in a subject",
+            description = "Returns the highest scoring students in a subject with their rank")
+    public ResponseEntity<List<SubjectRankDto>> getTopBySubject(
+            @Parameter(description = "Subject name") @PathVariable String subject,
+            @Parameter(description = "Number of students (1-100)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(rankingService.getTopBySubject(subject, limit));
+    }
+
+    @PostMapping("/jobs")
+    @Operation(summary = "Start a report job",
+            description = "Generates the reports of every student matching the filters in the background; " +
+                    "poll the returned job for progress and download the gzip-compressed result once completed")
+    public ResponseEntity<ReportJobDto> createReportJob(@RequestBody(required = false) ReportJobRequestDto request) {
+        ReportJobDto job = reportJobService.createJob(request != null ? request : new ReportJobRequestDto());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/reports/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get report job", description = "Returns the status and progress of a report job")
+    public ResponseEntity<ReportJobDto> getReportJob(
+            @Parameter(description = "Report job ID") @PathVariable Long jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    @Operation(summary = "Download report job result",
+            description = "Downloads the gzip-compressed reports of a completed report job")
+    public ResponseEntity<Resource> downloadReportJobResult(
+            @Parameter(description = "Report job ID") @PathVariable Long jobId) {
+        Path file = reportJobService.getResultFile(jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(new FileSystemResource(file));
+    }
+}
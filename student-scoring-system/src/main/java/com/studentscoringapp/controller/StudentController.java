@@ -1,21 +1,35 @@
 package com.studentscoringapp.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.dto.BulkImportResponseDto;
+import com.studentscoringapp.dto.ScoreUpdateRequestDto;
+import com.studentscoringapp.dto.ScoresUpdateRequestDto;
 import com.studentscoringapp.dto.StudentRequestDto;
 import com.studentscoringapp.dto.StudentResponseDto;
 import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.service.CountMode;
+import com.studentscoringapp.service.StudentImportService;
 import com.studentscoringapp.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/v1/students")
 @RequiredArgsConstructor
@@ -23,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new student", description = "Creates a new student with scores in 5 subjects")
@@ -32,6 +48,19 @@ public class StudentController {
         return new ResponseEntity<>(createdStudent, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk import students",
+            description = "Creates students from a JSON array or an NDJSON stream and reports the outcome of every row")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = StudentRequestDto.class))))
+    public ResponseEntity<BulkImportResponseDto> importStudents(HttpServletRequest request) throws IOException {
+        // Rows are read one at a time from the request body instead of binding the whole array
+        try (MappingIterator<StudentRequestDto> students = objectMapper.readerFor(StudentRequestDto.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(studentImportService.importStudents(students));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get student by ID", description = "Retrieves a student by their ID")
     public ResponseEntity<StudentResponseDto> getStudentById(
@@ -49,6 +78,25 @@ public class StudentController {
         return ResponseEntity.ok(updatedStudent);
     }
 
+    @PatchMapping("/{id}/scores/{subject}")
+    @Operation(summary = "Update one score", description = "Updates the score of a single subject without rewriting the student")
+    public ResponseEntity<Void> updateScore(
+            @Parameter(description = "Student ID") @PathVariable Long id,
+            @Parameter(description = "Subject name") @PathVariable String subject,
+            @Valid @RequestBody ScoreUpdateRequestDto scoreUpdateRequestDto) {
+        studentService.updateScore(id, subject, scoreUpdateRequestDto.getScore());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/{id}/scores")
+    @Operation(summary = "Update several scores", description = "Updates the scores of the listed subjects only")
+    public ResponseEntity<Void> updateScores(
+            @Parameter(description = "Student ID") @PathVariable Long id,
+            @Valid @RequestBody ScoresUpdateRequestDto scoresUpdateRequestDto) {
+        studentService.updateScores(id, scoresUpdateRequestDto.getSubjects());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete student", description = "Deletes a student and all their scores")
     public ResponseEntity<Void> deleteStudent(
@@ -66,7 +114,10 @@ public class StudentController {
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir,
             @Parameter(description = "Filter by first name") @RequestParam(required = false) String firstName,
             @Parameter(description = "Filter by last name") @RequestParam(required = false) String lastName,
-            @Parameter(description = "Filter by email") @RequestParam(required = false) String email) {
+            @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Cursor from a previous page's nextCursor; overrides page, sortBy and sortDir")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count: exact, estimated or none") @RequestParam(defaultValue = "exact") String count) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() :
@@ -74,9 +125,8 @@ public class StudentController {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        PagedResponse<StudentResponseDto> students = (firstName != null || lastName != null || email != null) ?
-                studentService.getStudentsWithFilters(firstName, lastName, email, pageable) :
-                studentService.getAllStudents(pageable);
+        PagedResponse<StudentResponseDto> students = studentService.getStudents(firstName, lastName, email,
+                pageable, cursor, CountMode.fromParameter(count));
 
         return ResponseEntity.ok(students);
     }
@@ -0,0 +1,22 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponseDto {
+
+    private int totalRows;
+    private int createdCount;
+    private int failedCount;
+
+    // Outcome of every input row, in input order
+    private List<BulkImportRowResultDto> results;
+}
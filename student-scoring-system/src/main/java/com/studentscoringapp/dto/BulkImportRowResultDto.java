@@ -0,0 +1,27 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRowResultDto {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    // 1-based position of the row in the request body
+    private int row;
+    private Status status;
+    private Long id;
+    private String studentId;
+    private List<String> errors;
+}
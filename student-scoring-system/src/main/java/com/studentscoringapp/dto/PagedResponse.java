@@ -1,5 +1,6 @@
 package com.studentscoringapp.dto;
 
+import com.studentscoringapp.service.CountMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,10 +17,17 @@ public class PagedResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Null when the count was skipped
+    private Long totalElements;
+    private Integer totalPages;
+
+    // How totalElements was produced
+    private CountMode countMode;
     private boolean first;
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // Token for the page after this one; pass it back as the cursor parameter
+    private String nextCursor;
 }
\ No newline at end of file
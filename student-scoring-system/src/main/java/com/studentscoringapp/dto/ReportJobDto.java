@@ -0,0 +1,37 @@
+package com.studentscoringapp.dto;
+
+import com.studentscoringapp.entity.ReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDto {
+
+    private Long id;
+    private ReportJobStatus status;
+    private String format;
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    // Known once the job has started
+    private Long totalStudents;
+    private Long processedStudents;
+    private Double progressPercent;
+
+    // Compressed size of the result, and where to download it, once completed
+    private Long resultSize;
+    private String resultUrl;
+
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
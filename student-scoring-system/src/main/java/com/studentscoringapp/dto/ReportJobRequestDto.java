@@ -0,0 +1,22 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequestDto {
+
+    // Same filters as GET /api/v1/reports/all
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    // ndjson or csv
+    @Builder.Default
+    private String format = "ndjson";
+}
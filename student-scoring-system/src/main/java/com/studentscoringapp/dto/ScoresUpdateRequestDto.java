@@ -0,0 +1,20 @@
+package com.studentscoringapp.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoresUpdateRequestDto {
+
+    // Map of subject to new score (e.g., {"Mathematics": 85}); subjects not listed are left unchanged
+    @NotEmpty(message = "At least one subject is required")
+    private Map<String, Integer> subjects;
+}
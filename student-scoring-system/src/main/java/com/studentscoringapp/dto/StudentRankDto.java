@@ -0,0 +1,25 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRankDto {
+
+    private Long studentId;
+    private String firstName;
+    private String lastName;
+    private Long totalScore;
+
+    // 1 for the highest total; tied totals share a rank
+    private Long rank;
+
+    // Share of the class with a lower total, 0-100; only set for a single student's ranking
+    private Double percentile;
+    private Long classSize;
+}
@@ -0,0 +1,22 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubjectRankDto {
+
+    private Long studentId;
+    private String firstName;
+    private String lastName;
+    private String subject;
+    private Integer score;
+
+    // 1 for the highest score in the subject; tied scores share a rank
+    private Long rank;
+}
@@ -0,0 +1,33 @@
+package com.studentscoringapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubjectStatisticsDto {
+
+    private String subject;
+    private Long scoreCount;
+
+    // Statistical measures
+    private Double meanScore;
+    private Double medianScore;
+    private Integer modeScore;
+    private Double standardDeviation;
+    private Integer highestScore;
+    private Integer lowestScore;
+
+    // Keyed p10, p25, p50, p75, p90
+    private Map<String, Double> quantiles;
+
+    // Number of students with each score, indexed by score from 0 to 100
+    private List<Long> histogram;
+}
@@ -0,0 +1,82 @@
+package com.studentscoringapp.entity;
+
+import com.studentscoringapp.service.ExportFormat;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report run over the students matching a filter, generated in the background into a compressed
+ * file in the report job storage directory.
+ */
+@Entity
+@Table(name = "report_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_jobs_seq")
+    @SequenceGenerator(name = "report_jobs_seq", sequenceName = "report_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 10)
+    private ExportFormat format;
+
+    @Column(name = "first_name_filter")
+    private String firstNameFilter;
+
+    @Column(name = "last_name_filter")
+    private String lastNameFilter;
+
+    @Column(name = "email_filter")
+    private String emailFilter;
+
+    @Column(name = "total_students")
+    private Long totalStudents;
+
+    @Column(name = "processed_students", nullable = false)
+    @Builder.Default
+    private Long processedStudents = 0L;
+
+    @Column(name = "result_file", length = 500)
+    private String resultFile;
+
+    @Column(name = "result_size")
+    private Long resultSize;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Instance that runs or queued the job, and when that instance last reported it alive
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
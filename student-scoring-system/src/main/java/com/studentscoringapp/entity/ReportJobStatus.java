@@ -0,0 +1,12 @@
+package com.studentscoringapp.entity;
+
+/**
+ * Lifecycle of a {@link ReportJob}: QUEUED until a worker claims it, then RUNNING until its result
+ * file is written (COMPLETED) or it fails (FAILED).
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scores")
+@Table(name = "scores", uniqueConstraints =
+        @UniqueConstraint(name = "uk_scores_student_subject", columnNames = {"student_id", "subject"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,7 +21,8 @@ import java.time.LocalDateTime;
 public class Score {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scores_seq")
+    @SequenceGenerator(name = "scores_seq", sequenceName = "scores_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
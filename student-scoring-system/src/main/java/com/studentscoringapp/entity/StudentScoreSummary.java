@@ -0,0 +1,87 @@
+package com.studentscoringapp.entity;
+
+import com.studentscoringapp.repository.projection.ScoreStatisticsView;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Report statistics for a student, maintained whenever the student's scores are written.
+ */
+@Entity
+@Table(name = "student_score_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentScoreSummary implements ScoreStatisticsView, Persistable<Long> {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @MapsId
+    @JoinColumn(name = "student_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Student student;
+
+    @Column(name = "score_count", nullable = false)
+    private Long scoreCount;
+
+    @Column(name = "total_score", nullable = false)
+    private Long totalScore;
+
+    @Column(name = "mean_score", nullable = false)
+    private Double meanScore;
+
+    @Column(name = "median_score", nullable = false)
+    private Double medianScore;
+
+    @Column(name = "mode_score", nullable = false)
+    private Integer modeScore;
+
+    @Column(name = "highest_score", nullable = false)
+    private Integer highestScore;
+
+    @Column(name = "lowest_score", nullable = false)
+    private Integer lowestScore;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Lets save() persist new summaries without a select on the assigned ID
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return studentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.studentscoringapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of students with a given total score, maintained with the summaries. Totals are bounded
+ * by 100 per subject, so the table stays small however many students there are, and a student's
+ * rank is the sum of the counts above its total.
+ */
+@Entity
+@Table(name = "student_total_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentTotalCount {
+
+    @Id
+    @Column(name = "total_score")
+    private Long totalScore;
+
+    @Column(name = "student_count", nullable = false)
+    private Long studentCount;
+}
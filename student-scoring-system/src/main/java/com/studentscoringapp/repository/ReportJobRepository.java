@@ -0,0 +1,59 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.ReportJob;
+import com.studentscoringapp.entity.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    List<ReportJob> findByStatusInOrderById(Collection<ReportJobStatus> statuses);
+
+    // Moves a queued job of the given owner to RUNNING; 0 when another worker or instance got there first
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportJob j SET j.status = com.studentscoringapp.entity.ReportJobStatus.RUNNING, " +
+            "j.startedAt = :startedAt, j.heartbeatAt = :startedAt, j.processedStudents = 0 " +
+            "WHERE j.id = :id AND j.owner = :owner " +
+            "AND j.status = com.studentscoringapp.entity.ReportJobStatus.QUEUED")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("startedAt") LocalDateTime startedAt);
+
+    // Only while RUNNING, so a late progress write cannot overwrite the final count of a finished job
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportJob j SET j.processedStudents = :processed " +
+            "WHERE j.id = :id AND j.owner = :owner " +
+            "AND j.status = com.studentscoringapp.entity.ReportJobStatus.RUNNING")
+    int updateProgress(@Param("id") Long id, @Param("owner") String owner, @Param("processed") long processed);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now WHERE j.owner = :owner " +
+            "AND j.status IN (com.studentscoringapp.entity.ReportJobStatus.QUEUED, " +
+            "com.studentscoringapp.entity.ReportJobStatus.RUNNING)")
+    int heartbeat(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // Requeues an unfinished job for the given owner unless its owner saved a heartbeat since staleBefore;
+    // 0 when the job is alive elsewhere or another instance took it over first
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportJob j SET j.status = com.studentscoringapp.entity.ReportJobStatus.QUEUED, " +
+            "j.owner = :owner, j.heartbeatAt = :now " +
+            "WHERE j.id = :id " +
+            "AND j.status IN (com.studentscoringapp.entity.ReportJobStatus.QUEUED, " +
+            "com.studentscoringapp.entity.ReportJobStatus.RUNNING) " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int takeOver(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    // Forgets the result files of jobs completed before the cutoff; the files are deleted by the caller
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportJob j SET j.resultFile = NULL, j.resultSize = NULL " +
+            "WHERE j.status = com.studentscoringapp.entity.ReportJobStatus.COMPLETED " +
+            "AND j.resultFile IS NOT NULL AND j.completedAt < :completedBefore")
+    int expireResults(@Param("completedBefore") LocalDateTime completedBefore);
+}
@@ -1,15 +1,22 @@
 package com.studentscoringapp.repository;
 
 import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.repository.projection.ScoreFrequencyView;
+import com.studentscoringapp.repository.projection.ScoreStatisticsView;
+import com.studentscoringapp.repository.projection.SubjectRankView;
+import com.studentscoringapp.repository.projection.SubjectScoreRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ScoreRepository extends JpaRepository<Score, Long> {
+public interface ScoreRepository extends JpaRepository<Score, Long>, ScoreRepositoryCustom {
 
     List<Score> findByStudentId(Long studentId);
 
@@ -18,7 +25,67 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
     @Query("SELECT s FROM Score s WHERE s.student.id = :studentId")
     List<Score> findScoresByStudentId(@Param("studentId") Long studentId);
 
+    @Query("SELECT s FROM Score s WHERE s.student.id IN :studentIds")
+    List<Score> findByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT new com.studentscoringapp.repository.projection.SubjectScoreRow(s.student.id, s.subject, s.score) " +
+            "FROM Score s WHERE s.student.id = :studentId")
+    List<SubjectScoreRow> findRowsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT new com.studentscoringapp.repository.projection.SubjectScoreRow(s.student.id, s.subject, s.score) " +
+            "FROM Score s WHERE s.student.id IN :studentIds")
+    List<SubjectScoreRow> findRowsByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
     @Query("SELECT s FROM Score s WHERE s.student.id = :studentId AND s.subject = :subject")
     List<Score> findByStudentIdAndSubject(@Param("studentId") Long studentId,
                                           @Param("subject") String subject);
-}
\ No newline at end of file
+
+    boolean existsByStudentIdAndSubject(Long studentId, String subject);
+
+    // Leaves the row untouched when the score is unchanged, so 0 means missing or unchanged
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Score s SET s.score = :score, s.updatedAt = :updatedAt " +
+            "WHERE s.student.id = :studentId AND s.subject = :subject AND s.score <> :score")
+    int updateScore(@Param("studentId") Long studentId,
+                    @Param("subject") String subject,
+                    @Param("score") Integer score,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Score s WHERE s.student.id = :studentId")
+    int deleteByStudentId(@Param("studentId") Long studentId);
+
+    @Modifying
+    @Query("DELETE FROM Score s WHERE s.student.id = :studentId AND s.subject NOT IN :subjects")
+    int deleteByStudentIdAndSubjectNotIn(@Param("studentId") Long studentId,
+                                         @Param("subjects") Collection<String> subjects);
+
+    // PERCENTILE_CONT and MODE are SQL:2008 ordered-set aggregates supported by PostgreSQL and H2.
+    // MODE returns the smallest of equally frequent scores.
+    @Query(value = "SELECT s.student_id AS studentId, " +
+            "COUNT(*) AS scoreCount, " +
+            "SUM(s.score) AS totalScore, " +
+            "AVG(CAST(s.score AS DOUBLE PRECISION)) AS meanScore, " +
+            "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY s.score) AS medianScore, " +
+            "MODE() WITHIN GROUP (ORDER BY s.score) AS modeScore, " +
+            "MAX(s.score) AS highestScore, " +
+            "MIN(s.score) AS lowestScore " +
+            "FROM scores s WHERE s.student_id IN (:studentIds) GROUP BY s.student_id",
+            nativeQuery = true)
+    List<ScoreStatisticsView> findStatisticsByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    // Served from idx_scores_subject_score without reading the table rows
+    @Query("SELECT s.score AS score, COUNT(s) AS frequency FROM Score s " +
+            "WHERE s.subject = :subject GROUP BY s.score ORDER BY s.score")
+    List<ScoreFrequencyView> findScoreFrequenciesBySubject(@Param("subject") String subject);
+
+    // Ranks only the top rows of the subject, read in order from idx_scores_subject_score
+    @Query(value = "SELECT r.student_id AS studentId, st.first_name AS firstName, st.last_name AS lastName, " +
+            "r.subject AS subject, r.score AS score, r.subject_rank AS subjectRank " +
+            "FROM (SELECT s.student_id, s.subject, s.score, RANK() OVER (ORDER BY s.score DESC) AS subject_rank " +
+            "FROM scores s WHERE s.subject = :subject ORDER BY s.score DESC, s.student_id LIMIT :limit) r " +
+            "JOIN students st ON st.id = r.student_id " +
+            "ORDER BY r.score DESC, r.student_id",
+            nativeQuery = true)
+    List<SubjectRankView> findTopBySubject(@Param("subject") String subject, @Param("limit") int limit);
+}
@@ -0,0 +1,14 @@
+package com.studentscoringapp.repository;
+
+import java.util.Map;
+
+public interface ScoreRepositoryCustom {
+
+    /**
+     * Inserts or updates the given subjects of a student in one statement. Rows whose score is
+     * unchanged are left untouched and other subjects of the student are not affected.
+     *
+     * @return the number of rows inserted or updated
+     */
+    int upsertScores(Long studentId, Map<String, Integer> subjects);
+}
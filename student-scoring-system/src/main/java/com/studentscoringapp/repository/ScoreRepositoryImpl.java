@@ -0,0 +1,81 @@
+package com.studentscoringapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Native score upserts keyed on the unique index on {@code scores (student_id, subject)}.
+ *
+ * <p>PostgreSQL updates the changed subjects and inserts the missing ones in one statement; the
+ * insert keeps {@code ON CONFLICT DO UPDATE}, so it stays atomic against a concurrent insert of
+ * the same subject. Other databases (H2 in tests) use the equivalent standard {@code MERGE}.</p>
+ *
+ * <p>New rows take their ids straight from {@code scores_seq}, so they never overlap with the ids
+ * Hibernate allocates. Each inserted row costs one value of the sequence, which is a whole block
+ * of 50 ids; updated and unchanged rows take none.</p>
+ */
+public class ScoreRepositoryImpl implements ScoreRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean postgres;
+
+    @Override
+    public int upsertScores(Long studentId, Map<String, Integer> subjects) {
+        if (subjects.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < subjects.size(); i++) {
+            values.append(i == 0 ? "" : ", ").append("(:subject").append(i).append(", :score").append(i).append(")");
+        }
+
+        // The select list, nextval() included, is only evaluated for rows that pass NOT EXISTS, so only
+        // the subjects the student does not have yet take a sequence value. The conflict clause covers
+        // a subject inserted concurrently after this statement's snapshot; that row has taken one too
+        String sql = isPostgres() ?
+                "WITH v(subject, score) AS (VALUES " + values + "), " +
+                        "updated AS (UPDATE scores s SET score = v.score, updated_at = :now FROM v " +
+                        "WHERE s.student_id = :studentId AND s.subject = v.subject " +
+                        "AND s.score IS DISTINCT FROM v.score RETURNING s.id), " +
+                        "inserted AS (INSERT INTO scores (id, student_id, subject, score, created_at, updated_at) " +
+                        "SELECT nextval('scores_seq'), :studentId, v.subject, v.score, :now, :now FROM v " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM scores s WHERE s.student_id = :studentId AND s.subject = v.subject) " +
+                        "ON CONFLICT (student_id, subject) DO UPDATE " +
+                        "SET score = EXCLUDED.score, updated_at = EXCLUDED.updated_at " +
+                        "WHERE scores.score IS DISTINCT FROM EXCLUDED.score RETURNING scores.id) " +
+                        "SELECT (SELECT COUNT(*) FROM updated) + (SELECT COUNT(*) FROM inserted)" :
+                "MERGE INTO scores t USING (VALUES " + values + ") AS v(subject, score) " +
+                        "ON t.student_id = :studentId AND t.subject = v.subject " +
+                        "WHEN MATCHED AND t.score <> v.score THEN UPDATE SET score = v.score, updated_at = :now " +
+                        "WHEN NOT MATCHED THEN INSERT (id, student_id, subject, score, created_at, updated_at) " +
+                        "VALUES (NEXT VALUE FOR scores_seq, :studentId, v.subject, v.score, :now, :now)";
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("studentId", studentId)
+                .setParameter("now", LocalDateTime.now());
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : subjects.entrySet()) {
+            query.setParameter("subject" + i, entry.getKey());
+            query.setParameter("score" + i, entry.getValue());
+            i++;
+        }
+        return isPostgres() ? ((Number) query.getSingleResult()).intValue() : query.executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,75 @@
+package com.studentscoringapp.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.repository.specification.StudentSpecifications.FilterTerm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Estimates how many students match the listing filters from PostgreSQL planner statistics
+ * instead of counting them.
+ *
+ * <p>Without filters the estimate is {@code pg_class.reltuples}; with filters it is the row
+ * estimate of the planner for the filtered query. Other databases provide no estimate.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile Boolean postgres;
+
+    public OptionalLong estimate(List<FilterTerm> terms) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        if (terms.isEmpty()) {
+            Double reltuples = jdbcTemplate.queryForObject(
+                    "SELECT reltuples FROM pg_class WHERE oid = 'students'::regclass", Double.class);
+            // -1 until the table has been vacuumed or analyzed
+            if (reltuples != null && reltuples >= 0) {
+                return OptionalLong.of(Math.round(reltuples));
+            }
+        }
+
+        // Same predicates as StudentSpecifications, so the planner estimates the rows the listing returns
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM students");
+        List<Object> parameters = new ArrayList<>();
+        for (FilterTerm term : terms) {
+            sql.append(parameters.isEmpty() ? " WHERE " : " AND ")
+                    .append("lower(").append(term.getColumn()).append(")")
+                    .append(term.isExact() ? " = ?" : " LIKE ? ESCAPE '\\'");
+            parameters.add(term.getValue());
+        }
+
+        String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, parameters.toArray());
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? OptionalLong.of(rows.asLong()) : OptionalLong.empty();
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not read the row estimate from the query plan: {}", ex.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
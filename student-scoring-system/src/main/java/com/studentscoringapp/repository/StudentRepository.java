@@ -1,32 +1,47 @@
 package com.studentscoringapp.repository;
 
 import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.projection.StudentKeyView;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.specification.StudentSpecifications;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student>,
+        StudentRepositoryCustom {
 
     Optional<Student> findByEmail(String email);
 
     Optional<Student> findByStudentId(String studentId);
 
+    @Query("SELECT new com.studentscoringapp.repository.projection.StudentRow(" +
+            "s.id, s.firstName, s.lastName, s.email, s.studentId, s.createdAt, s.updatedAt) " +
+            "FROM Student s WHERE s.id = :id")
+    Optional<StudentRow> findRowById(@Param("id") Long id);
+
     boolean existsByEmail(String email);
 
     boolean existsByStudentId(String studentId);
 
-    @Query("SELECT s FROM Student s WHERE " +
-            "(:firstName IS NULL OR LOWER(s.firstName) LIKE LOWER(CONCAT('%', :firstName, '%'))) AND " +
-            "(:lastName IS NULL OR LOWER(s.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))) AND " +
-            "(:email IS NULL OR LOWER(s.email) LIKE LOWER(CONCAT('%', :email, '%')))")
-    Page<Student> findWithFilters(@Param("firstName") String firstName,
-                                  @Param("lastName") String lastName,
-                                  @Param("email") String email,
-                                  Pageable pageable);
-}
\ No newline at end of file
+    default Page<Student> findWithFilters(String firstName, String lastName, String email, Pageable pageable) {
+        return findAll(StudentSpecifications.withFilters(firstName, lastName, email), pageable);
+    }
+
+    @Query("SELECT s.id FROM Student s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT s.email AS email, s.studentId AS studentId FROM Student s " +
+            "WHERE s.email IN :emails OR s.studentId IN :studentIds")
+    List<StudentKeyView> findKeysByEmailInOrStudentIdIn(@Param("emails") Collection<String> emails,
+                                                        @Param("studentIds") Collection<String> studentIds);
+}
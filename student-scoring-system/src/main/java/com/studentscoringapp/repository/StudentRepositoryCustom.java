@@ -0,0 +1,17 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.projection.StudentRow;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface StudentRepositoryCustom {
+
+    /**
+     * Returns the matching students as read-only rows, in the given order, skipping {@code offset}
+     * rows and returning at most {@code limit}.
+     */
+    List<StudentRow> findRows(Specification<Student> specification, Sort sort, long offset, int limit);
+}
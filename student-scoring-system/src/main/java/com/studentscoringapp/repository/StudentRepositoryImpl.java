@@ -0,0 +1,52 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.projection.StudentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Student listings selected with a constructor expression, so the rows never enter the
+ * persistence context.
+ */
+public class StudentRepositoryImpl implements StudentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudentRow> findRows(Specification<Student> specification, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentRow> query = cb.createQuery(StudentRow.class);
+        Root<Student> root = query.from(Student.class);
+
+        query.select(cb.construct(StudentRow.class,
+                root.get("id"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("studentId"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.StudentScoreSummary;
+import com.studentscoringapp.repository.projection.StudentTotalView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StudentScoreSummaryRepository extends JpaRepository<StudentScoreSummary, Long> {
+
+    @Query("SELECT s FROM StudentScoreSummary s WHERE s.studentId IN :studentIds")
+    List<StudentScoreSummary> findByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    @Modifying
+    @Query("DELETE FROM StudentScoreSummary s WHERE s.studentId IN :studentIds")
+    int deleteByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT s.totalScore FROM StudentScoreSummary s WHERE s.studentId IN :studentIds")
+    List<Long> findTotalsByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    // First ranking page of an offset listing; idx_student_score_summary_total_rank delivers the rows in ranking
+    // order, but every skipped row is still read, so deep pages should use findRankingAfter
+    @Query(value = "SELECT ss.student_id AS studentId, st.first_name AS firstName, st.last_name AS lastName, " +
+            "ss.total_score AS totalScore " +
+            "FROM student_score_summary ss JOIN students st ON st.id = ss.student_id " +
+            "ORDER BY ss.total_score DESC, ss.student_id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<StudentTotalView> findRanking(@Param("offset") long offset, @Param("limit") int limit);
+
+    // Keyset seek on idx_student_score_summary_total_rank to the rows after the given position, so every page
+    // costs the same as the first
+    @Query(value = "SELECT ss.student_id AS studentId, st.first_name AS firstName, st.last_name AS lastName, " +
+            "ss.total_score AS totalScore " +
+            "FROM student_score_summary ss JOIN students st ON st.id = ss.student_id " +
+            "WHERE ss.total_score <= :totalScore " +
+            "AND (ss.total_score < :totalScore OR ss.student_id > :studentId) " +
+            "ORDER BY ss.total_score DESC, ss.student_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<StudentTotalView> findRankingAfter(@Param("totalScore") Long totalScore, @Param("studentId") Long studentId,
+                                            @Param("limit") int limit);
+
+    @Query(value = "SELECT ss.student_id AS studentId, st.first_name AS firstName, st.last_name AS lastName, " +
+            "ss.total_score AS totalScore " +
+            "FROM student_score_summary ss JOIN students st ON st.id = ss.student_id " +
+            "WHERE ss.student_id = :studentId",
+            nativeQuery = true)
+    Optional<StudentTotalView> findTotal(@Param("studentId") Long studentId);
+}
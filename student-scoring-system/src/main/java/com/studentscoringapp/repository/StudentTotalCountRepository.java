@@ -0,0 +1,22 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.StudentTotalCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StudentTotalCountRepository extends JpaRepository<StudentTotalCount, Long>,
+        StudentTotalCountRepositoryCustom {
+
+    // The totals a rank is computed from; at most one row per distinct total
+    @Query("SELECT c FROM StudentTotalCount c WHERE c.totalScore >= :totalScore AND c.studentCount > 0 " +
+            "ORDER BY c.totalScore DESC")
+    List<StudentTotalCount> findFromTotalDownward(@Param("totalScore") Long totalScore);
+
+    @Query("SELECT COALESCE(SUM(c.studentCount), 0) FROM StudentTotalCount c")
+    long countStudents();
+}
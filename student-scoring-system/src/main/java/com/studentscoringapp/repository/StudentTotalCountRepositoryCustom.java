@@ -0,0 +1,13 @@
+package com.studentscoringapp.repository;
+
+import java.util.SortedMap;
+
+public interface StudentTotalCountRepositoryCustom {
+
+    /**
+     * Adds the given deltas to the student counts of their totals in one statement, creating
+     * missing totals. Rows are locked in ascending total order, so concurrent adjustments cannot
+     * deadlock.
+     */
+    void adjustCounts(SortedMap<Long, Long> deltas);
+}
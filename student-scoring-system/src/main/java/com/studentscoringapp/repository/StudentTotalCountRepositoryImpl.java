@@ -0,0 +1,61 @@
+package com.studentscoringapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Native count adjustments: {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL and the
+ * equivalent standard {@code MERGE} elsewhere (H2 in tests).
+ */
+public class StudentTotalCountRepositoryImpl implements StudentTotalCountRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean postgres;
+
+    @Override
+    public void adjustCounts(SortedMap<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < deltas.size(); i++) {
+            values.append(i == 0 ? "" : ", ").append("(CAST(:total").append(i).append(" AS BIGINT), CAST(:delta")
+                    .append(i).append(" AS BIGINT))");
+        }
+
+        String sql = isPostgres() ?
+                "INSERT INTO student_total_counts (total_score, student_count) VALUES " + values + " " +
+                        "ON CONFLICT (total_score) DO UPDATE " +
+                        "SET student_count = student_total_counts.student_count + EXCLUDED.student_count" :
+                "MERGE INTO student_total_counts t USING (VALUES " + values + ") AS v(total_score, delta) " +
+                        "ON t.total_score = v.total_score " +
+                        "WHEN MATCHED THEN UPDATE SET student_count = t.student_count + v.delta " +
+                        "WHEN NOT MATCHED THEN INSERT (total_score, student_count) VALUES (v.total_score, v.delta)";
+
+        Query query = entityManager.createNativeQuery(sql);
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            query.setParameter("total" + i, entry.getKey());
+            query.setParameter("delta" + i, entry.getValue());
+            i++;
+        }
+        query.executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
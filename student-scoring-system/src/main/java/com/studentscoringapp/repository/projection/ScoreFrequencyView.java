@@ -0,0 +1,11 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * Number of times a score occurs, one row of a score histogram.
+ */
+public interface ScoreFrequencyView {
+
+    Integer getScore();
+
+    Long getFrequency();
+}
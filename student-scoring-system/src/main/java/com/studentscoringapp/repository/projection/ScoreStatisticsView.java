@@ -0,0 +1,23 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * Per-student score aggregates computed by the database.
+ */
+public interface ScoreStatisticsView {
+
+    Long getStudentId();
+
+    Long getScoreCount();
+
+    Long getTotalScore();
+
+    Double getMeanScore();
+
+    Double getMedianScore();
+
+    Integer getModeScore();
+
+    Integer getHighestScore();
+
+    Integer getLowestScore();
+}
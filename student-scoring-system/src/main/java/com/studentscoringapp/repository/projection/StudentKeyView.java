@@ -0,0 +1,11 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * Unique keys of an existing student, used for bulk uniqueness checks.
+ */
+public interface StudentKeyView {
+
+    String getEmail();
+
+    String getStudentId();
+}
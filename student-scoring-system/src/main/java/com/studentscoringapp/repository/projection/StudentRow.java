@@ -0,0 +1,15 @@
+package com.studentscoringapp.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only student columns, selected straight into the record without a managed entity.
+ */
+public record StudentRow(Long id,
+                         String firstName,
+                         String lastName,
+                         String email,
+                         String studentId,
+                         LocalDateTime createdAt,
+                         LocalDateTime updatedAt) {
+}
@@ -0,0 +1,15 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * A student with its total score, the position of the student in the class ranking.
+ */
+public interface StudentTotalView {
+
+    Long getStudentId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Long getTotalScore();
+}
@@ -0,0 +1,19 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * A student's position in the ranking of one subject.
+ */
+public interface SubjectRankView {
+
+    Long getStudentId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getSubject();
+
+    Integer getScore();
+
+    Long getSubjectRank();
+}
@@ -0,0 +1,7 @@
+package com.studentscoringapp.repository.projection;
+
+/**
+ * Read-only score of one subject of a student, selected without a managed entity.
+ */
+public record SubjectScoreRow(Long studentId, String subject, Integer score) {
+}
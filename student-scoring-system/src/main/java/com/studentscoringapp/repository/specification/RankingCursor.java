@@ -0,0 +1,57 @@
+package com.studentscoringapp.repository.specification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.projection.StudentTotalView;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Position of the last student of a ranking page, used to seek to the next page instead of
+ * skipping rows. The ranking is ordered by total score descending and then by student id, so
+ * every row has a unique position. Clients receive the cursor as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RankingCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Long totalScore;
+    private final Long studentId;
+    private final int page;
+
+    public static RankingCursor after(StudentTotalView student, int page) {
+        return new RankingCursor(student.getTotalScore(), student.getStudentId(), page);
+    }
+
+    public String encode() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("t", totalScore);
+        fields.put("i", studentId);
+        fields.put("p", page);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OBJECT_MAPPER.writeValueAsBytes(fields));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    public static RankingCursor decode(String token) {
+        try {
+            Map<?, ?> fields = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            return new RankingCursor(((Number) fields.get("t")).longValue(),
+                    ((Number) fields.get("i")).longValue(),
+                    ((Number) fields.get("p")).intValue());
+        } catch (Exception ex) {
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.studentscoringapp.repository.specification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.projection.StudentRow;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Position of the last student of a page, used to seek to the next page instead of skipping rows.
+ *
+ * <p>Listings in cursor mode are ordered by the sort attribute and then by id, so every row has a
+ * unique position. Nulls are expected to sort as the largest value, which is PostgreSQL's default
+ * (last ascending, first descending); the H2 test database is set up the same way. Clients
+ * receive the cursor as an opaque URL-safe token.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StudentCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Map<String, Function<StudentRow, Comparable<?>>> SORTABLE_ATTRIBUTES = Map.of(
+            "id", StudentRow::id,
+            "firstName", StudentRow::firstName,
+            "lastName", StudentRow::lastName,
+            "email", StudentRow::email,
+            "studentId", StudentRow::studentId,
+            "createdAt", StudentRow::createdAt,
+            "updatedAt", StudentRow::updatedAt);
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    // Sort attribute of the last student; null when that student has no value for it
+    private final Comparable<?> value;
+    private final Long id;
+    private final int page;
+
+    public static boolean supports(String sortBy) {
+        return SORTABLE_ATTRIBUTES.containsKey(sortBy);
+    }
+
+    /**
+     * Returns the total order used for keyset paging on the given attribute.
+     */
+    public static Sort sort(String sortBy, Sort.Direction direction) {
+        if (sortBy.equals("id")) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortBy, "id");
+    }
+
+    public static StudentCursor after(StudentRow student, String sortBy, Sort.Direction direction, int page) {
+        return new StudentCursor(sortBy, direction, SORTABLE_ATTRIBUTES.get(sortBy).apply(student),
+                student.id(), page);
+    }
+
+    public Sort sort() {
+        return sort(sortBy, direction);
+    }
+
+    public String encode() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("s", sortBy);
+        fields.put("d", direction.name());
+        fields.put("v", value != null ? value.toString() : null);
+        fields.put("i", id);
+        fields.put("p", page);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OBJECT_MAPPER.writeValueAsBytes(fields));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    public static StudentCursor decode(String token) {
+        try {
+            Map<?, ?> fields = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            String sortBy = (String) fields.get("s");
+            if (!supports(sortBy)) {
+                throw new ValidationException("Invalid cursor");
+            }
+            Object value = fields.get("v");
+            return new StudentCursor(sortBy,
+                    Sort.Direction.valueOf((String) fields.get("d")),
+                    value != null ? parseValue(sortBy, value.toString()) : null,
+                    ((Number) fields.get("i")).longValue(),
+                    ((Number) fields.get("p")).intValue());
+        } catch (ValidationException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+
+    private static Comparable<?> parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "id" -> Long.valueOf(value);
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> value;
+        };
+    }
+}
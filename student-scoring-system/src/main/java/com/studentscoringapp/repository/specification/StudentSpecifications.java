@@ -0,0 +1,152 @@
+package com.studentscoringapp.repository.specification;
+
+import com.studentscoringapp.entity.Student;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Student filters shaped to use the expression indexes on {@code lower(first_name)},
+ * {@code lower(last_name)} and {@code lower(email)}.
+ *
+ * <p>Each filter value is matched case-insensitively and its shape picks the predicate:</p>
+ * <ul>
+ *     <li>a trailing {@code *} matches by prefix ({@code Smi*}), served by the btree pattern indexes</li>
+ *     <li>a complete email address matches exactly, served by the same btree index as email prefixes</li>
+ *     <li>anything else matches as a substring, served by the pg_trgm GIN indexes</li>
+ * </ul>
+ */
+public final class StudentSpecifications {
+
+    public static final char ESCAPE = '\\';
+    private static final Pattern EMAIL_ADDRESS = Pattern.compile("^[^@\\s*]+@[^@\\s*]+\\.[^@\\s*]+$");
+
+    private StudentSpecifications() {
+    }
+
+    public static Specification<Student> withFilters(String firstName, String lastName, String email) {
+        return Specification.allOf(filterTerms(firstName, lastName, email).stream()
+                .map(StudentSpecifications::matches)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Resolves the filter values to the predicates applied to the lowered columns, so that native
+     * queries (such as count estimates) can reproduce exactly what {@link #withFilters} matches.
+     */
+    public static List<FilterTerm> filterTerms(String firstName, String lastName, String email) {
+        List<FilterTerm> terms = new ArrayList<>();
+        if (firstName != null) {
+            terms.add(nameTerm("firstName", "first_name", firstName));
+        }
+        if (lastName != null) {
+            terms.add(nameTerm("lastName", "last_name", lastName));
+        }
+        if (email != null) {
+            terms.add(EMAIL_ADDRESS.matcher(email).matches() ?
+                    new FilterTerm("email", "email", true, email.toLowerCase(Locale.ROOT)) :
+                    nameTerm("email", "email", email));
+        }
+        return terms;
+    }
+
+    /**
+     * Restricts a listing ordered by {@link StudentCursor#sort()} to the students after the cursor
+     * that are on the same side of the nulls: students with a value, or students without one.
+     * Each side is one range of the {@code (column, id)} index, so the seek never reads the
+     * students before the cursor; {@link #afterNulls(StudentCursor)} continues on the other side.
+     */
+    public static Specification<Student> after(StudentCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Predicate idAfter = cursor.getDirection().isAscending() ?
+                    cb.greaterThan(id, cursor.getId()) :
+                    cb.lessThan(id, cursor.getId());
+            if (cursor.getSortBy().equals("id")) {
+                return idAfter;
+            }
+
+            Path<Comparable<Object>> column = root.get(cursor.getSortBy());
+            @SuppressWarnings("unchecked")
+            Comparable<Object> value = (Comparable<Object>) cursor.getValue();
+
+            if (value == null) {
+                return cb.and(cb.isNull(column), idAfter);
+            }
+            // The redundant bound on the column is what the index seeks to
+            if (cursor.getDirection().isAscending()) {
+                return cb.and(cb.greaterThanOrEqualTo(column, value),
+                        cb.or(cb.greaterThan(column, value), idAfter));
+            }
+            return cb.and(cb.lessThanOrEqualTo(column, value),
+                    cb.or(cb.lessThan(column, value), idAfter));
+        };
+    }
+
+    /**
+     * The students past the other side of the nulls from the cursor, in the same order: students
+     * without a value after an ascending cursor on a value (nulls sort last), students with a value
+     * after a descending cursor on a null (nulls sort first). Empty when the cursor is already on
+     * the last side.
+     */
+    public static Optional<Specification<Student>> afterNulls(StudentCursor cursor) {
+        if (cursor.getSortBy().equals("id")) {
+            return Optional.empty();
+        }
+        if (cursor.getDirection().isAscending() && cursor.getValue() != null) {
+            return Optional.of((root, query, cb) -> cb.isNull(root.get(cursor.getSortBy())));
+        }
+        if (cursor.getDirection().isDescending() && cursor.getValue() == null) {
+            return Optional.of((root, query, cb) -> cb.isNotNull(root.get(cursor.getSortBy())));
+        }
+        return Optional.empty();
+    }
+
+    private static Specification<Student> matches(FilterTerm term) {
+        return (root, query, cb) -> {
+            Expression<String> column = cb.lower(root.get(term.getAttribute()));
+            return term.isExact() ?
+                    cb.equal(column, term.getValue()) :
+                    cb.like(column, term.getValue(), ESCAPE);
+        };
+    }
+
+    private static FilterTerm nameTerm(String attribute, String column, String value) {
+        String filter = value.toLowerCase(Locale.ROOT);
+        if (filter.endsWith("*")) {
+            return new FilterTerm(attribute, column, false, escape(filter.substring(0, filter.length() - 1)) + "%");
+        }
+        return new FilterTerm(attribute, column, false, "%" + escape(filter) + "%");
+    }
+
+    // User input is matched literally, so LIKE wildcards in it must not widen the match
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * One filter predicate: {@code lower(column) = value} when exact, otherwise
+     * {@code lower(column) LIKE value ESCAPE '\'}.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class FilterTerm {
+
+        private final String attribute;
+        private final String column;
+        private final boolean exact;
+        private final String value;
+    }
+}
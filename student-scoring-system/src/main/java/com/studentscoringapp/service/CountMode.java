@@ -0,0 +1,33 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * How the total of a paged listing is computed, selected with the {@code count} request parameter.
+ */
+public enum CountMode {
+
+    // A COUNT query with the same filters runs next to the page query
+    EXACT,
+
+    // Planner statistics instead of a count query; falls back to EXACT where the database has none
+    ESTIMATED,
+
+    // No count query; the response only reports whether a next page exists
+    NONE;
+
+    public static CountMode fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid count mode: " + value + ". Expected one of: " +
+                    Arrays.stream(values())
+                            .map(mode -> mode.name().toLowerCase(Locale.ROOT))
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Output format of the report export, selected with the {@code format} request parameter.
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+
+    // One JSON report per line
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+
+    // One row per student with a header row; subject scores are packed into a single column as
+    // subject=score pairs separated by ';', with '\', ';' and '=' in subject names escaped by '\'
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    public static ExportFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid export format: " + value + ". Expected one of: " +
+                    Arrays.stream(values())
+                            .map(format -> format.name().toLowerCase(Locale.ROOT))
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+}
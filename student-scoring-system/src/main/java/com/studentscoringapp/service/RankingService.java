@@ -0,0 +1,16 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.StudentRankDto;
+import com.studentscoringapp.dto.SubjectRankDto;
+
+import java.util.List;
+
+public interface RankingService {
+
+    PagedResponse<StudentRankDto> getRanking(int page, int size, String cursor);
+
+    StudentRankDto getStudentRank(Long studentId);
+
+    List<SubjectRankDto> getTopBySubject(String subject, int limit);
+}
@@ -0,0 +1,21 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.repository.specification.StudentSpecifications.FilterTerm;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+public interface ReportExportService {
+
+    void exportReports(ExportFormat format, OutputStream outputStream);
+
+    /**
+     * Writes the reports of the students matching the filter terms, reporting the number written so far
+     * after every student.
+     *
+     * @return the number of reports written
+     */
+    long exportReports(ExportFormat format, List<FilterTerm> filters, OutputStream outputStream,
+                       LongConsumer progress);
+}
@@ -0,0 +1,31 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.dto.ReportJobDto;
+import com.studentscoringapp.dto.ReportJobRequestDto;
+
+import java.nio.file.Path;
+
+public interface ReportJobService {
+
+    ReportJobDto createJob(ReportJobRequestDto request);
+
+    ReportJobDto getJob(Long id);
+
+    /**
+     * The gzip-compressed result of a completed job.
+     */
+    Path getResultFile(Long id);
+
+    /**
+     * Takes over the queued or running jobs of instances that stopped, found by a heartbeat older
+     * than {@code app.reports.jobs.stale-after}: they are started again, or failed when
+     * {@code app.reports.jobs.resume-on-startup=false}. Jobs of live instances are left alone.
+     */
+    void recoverUnfinishedJobs();
+
+    /**
+     * Deletes the results of jobs completed longer than {@code app.reports.jobs.result-ttl} ago,
+     * along with any other file in the storage directory not modified since.
+     */
+    void deleteExpiredResults();
+}
@@ -2,6 +2,7 @@ package com.studentscoringapp.service;
 
 import com.studentscoringapp.dto.ReportDto;
 import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.SubjectStatisticsDto;
 import org.springframework.data.domain.Pageable;
 
 public interface ReportService {
@@ -12,4 +13,9 @@ public interface ReportService {
 
     PagedResponse<ReportDto> generateFilteredReport(String firstName, String lastName,
                                                     String email, Pageable pageable);
-}
\ No newline at end of file
+
+    PagedResponse<ReportDto> generateReports(String firstName, String lastName, String email,
+                                             Pageable pageable, String cursor, CountMode countMode);
+
+    SubjectStatisticsDto generateSubjectStatistics(String subject);
+}
@@ -0,0 +1,16 @@
+package com.studentscoringapp.service;
+
+/**
+ * Where report statistics are computed, selected with {@code app.reports.statistics-strategy}.
+ */
+public enum StatisticsStrategy {
+
+    // Scores are loaded and the statistics are computed in the application
+    JVM,
+
+    // Statistics are aggregated by the database and only the results are read back
+    DATABASE,
+
+    // Statistics are read from the student_score_summary table maintained on every score write
+    SUMMARY
+}
@@ -0,0 +1,10 @@
+package com.studentscoringapp.service;
+
+import java.util.Collection;
+
+public interface StudentCacheService {
+
+    void evictStudent(Long studentId);
+
+    void evictStudents(Collection<Long> studentIds);
+}
@@ -0,0 +1,11 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.dto.BulkImportResponseDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+
+import java.util.Iterator;
+
+public interface StudentImportService {
+
+    BulkImportResponseDto importStudents(Iterator<StudentRequestDto> students);
+}
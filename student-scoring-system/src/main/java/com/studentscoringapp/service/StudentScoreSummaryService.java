@@ -0,0 +1,18 @@
+package com.studentscoringapp.service;
+
+import com.studentscoringapp.entity.Student;
+
+import java.util.Collection;
+
+public interface StudentScoreSummaryService {
+
+    void createSummary(Student student, Collection<Integer> scores);
+
+    void refreshSummary(Student student, Collection<Integer> scores);
+
+    void refreshSummary(Long studentId);
+
+    void deleteSummary(Long studentId);
+
+    long rebuildAllSummaries();
+}
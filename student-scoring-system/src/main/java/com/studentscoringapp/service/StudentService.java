@@ -5,6 +5,8 @@ import com.studentscoringapp.dto.StudentResponseDto;
 import com.studentscoringapp.dto.PagedResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
+
 public interface StudentService {
 
     StudentResponseDto createStudent(StudentRequestDto studentRequestDto);
@@ -13,10 +15,17 @@ public interface StudentService {
 
     StudentResponseDto updateStudent(Long id, StudentRequestDto studentRequestDto);
 
+    void updateScore(Long id, String subject, Integer score);
+
+    void updateScores(Long id, Map<String, Integer> subjects);
+
     void deleteStudent(Long id);
 
     PagedResponse<StudentResponseDto> getAllStudents(Pageable pageable);
 
     PagedResponse<StudentResponseDto> getStudentsWithFilters(String firstName, String lastName,
                                                              String email, Pageable pageable);
+
+    PagedResponse<StudentResponseDto> getStudents(String firstName, String lastName, String email,
+                                                  Pageable pageable, String cursor, CountMode countMode);
 }
\ No newline at end of file
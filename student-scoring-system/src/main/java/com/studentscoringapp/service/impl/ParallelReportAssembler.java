@@ -0,0 +1,184 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Converts a large page of students in chunks on a bounded pool of report workers.
+ *
+ * <p>Each chunk runs the whole conversion, including its score and statistics queries, so worker
+ * chunks read in their own read-only transaction on their own pooled connection while the CPU-side
+ * assembly of different chunks overlaps. The calling thread converts the first chunk itself and
+ * takes over every chunk no worker has claimed yet. Results are concatenated in chunk order, so
+ * they keep the order of the page.</p>
+ *
+ * <p>A worker only claims a chunk once its transaction holds a connection, so the calling thread,
+ * which keeps its own connection, never waits for a worker that is still waiting for one. Workers
+ * skip their chunk when the Hikari pool has no connection to spare, and a worker that fails to get
+ * one leaves its chunk to the calling thread.</p>
+ *
+ * <p>Disabled by default ({@code app.reports.parallel.enabled}). A request then uses up to
+ * {@code app.reports.parallel.threads} connections besides its own, which the connection pool has
+ * to allow for.</p>
+ */
+@Component
+@Slf4j
+public class ParallelReportAssembler {
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    public ParallelReportAssembler(PlatformTransactionManager transactionManager,
+                                   DataSource dataSource,
+                                   @Value("${app.reports.parallel.enabled:false}") boolean enabled,
+                                   @Value("${app.reports.parallel.threads:4}") int threads,
+                                   @Value("${app.reports.parallel.chunk-size:100}") int chunkSize) {
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.dataSource = dataSource;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        // Chunks beyond the queue are rejected and converted by the calling thread
+        this.executor.setQueueCapacity(threads * 16);
+        this.executor.setThreadNamePrefix("report-");
+        this.executor.initialize();
+    }
+
+    public <T> List<T> convert(List<StudentRow> students, Function<List<StudentRow>, List<T>> converter) {
+        if (!enabled || students.size() <= chunkSize) {
+            return converter.apply(students);
+        }
+
+        List<Chunk<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < students.size(); from += chunkSize) {
+            chunks.add(new Chunk<>(students.subList(from, Math.min(from + chunkSize, students.size())), converter));
+        }
+        log.debug("Converting {} students in {} chunks", students.size(), chunks.size());
+
+        for (Chunk<T> chunk : chunks.subList(1, chunks.size())) {
+            try {
+                executor.execute(() -> convertOnWorker(chunk));
+            } catch (TaskRejectedException ex) {
+                // Left unclaimed for the calling thread
+            }
+        }
+
+        List<T> results = new ArrayList<>(students.size());
+        for (Chunk<T> chunk : chunks) {
+            // Runs in the caller's transaction when no worker has claimed the chunk
+            if (chunk.claim()) {
+                chunk.run();
+            }
+            results.addAll(chunk.join());
+        }
+        return results;
+    }
+
+    private void convertOnWorker(Chunk<?> chunk) {
+        if (chunk.isClaimed() || !connectionAvailable()) {
+            return;
+        }
+        try {
+            // A read-only transaction takes its connection when it begins, before the chunk is claimed
+            transactionTemplate.executeWithoutResult(status -> {
+                if (chunk.claim()) {
+                    chunk.run();
+                }
+            });
+        } catch (TransactionException ex) {
+            log.debug("Report worker could not start a transaction, leaving its chunk to the caller: {}",
+                    ex.getMessage());
+        }
+    }
+
+    // Without waiting: an idle connection or room to open one, and nobody queued ahead
+    private boolean connectionAvailable() {
+        HikariDataSource hikari = hikariDataSource();
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return true;
+        }
+        return pool.getThreadsAwaitingConnection() == 0 &&
+                (pool.getIdleConnections() > 0 || pool.getTotalConnections() < hikari.getMaximumPoolSize());
+    }
+
+    private HikariDataSource hikariDataSource() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class Chunk<T> {
+
+        private final List<StudentRow> students;
+        private final Function<List<StudentRow>, List<T>> converter;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        private Chunk(List<StudentRow> students, Function<List<StudentRow>, List<T>> converter) {
+            this.students = students;
+            this.converter = converter;
+        }
+
+        boolean isClaimed() {
+            return claimed.get();
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void run() {
+            try {
+                result.complete(converter.apply(students));
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+
+        List<T> join() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.StudentRankDto;
+import com.studentscoringapp.dto.SubjectRankDto;
+import com.studentscoringapp.entity.StudentTotalCount;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.repository.projection.StudentTotalView;
+import com.studentscoringapp.repository.projection.SubjectRankView;
+import com.studentscoringapp.repository.specification.RankingCursor;
+import com.studentscoringapp.service.CountMode;
+import com.studentscoringapp.service.RankingService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Class rankings computed by the database from the summary and scores tables. Rankings by total
+ * score cover the students with a summary (see {@code app.summaries.rebuild-on-startup}); ranks
+ * and class sizes are summed from the per-total student counts, which have one row per distinct
+ * total, so neither depends on how many students rank above.
+ */
+@Service
+@Timed("app.service")
+@RequiredArgsConstructor
+@Slf4j
+public class RankingServiceImpl implements RankingService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final StudentRepository studentRepository;
+    private final ScoreRepository scoreRepository;
+    private final StudentScoreSummaryRepository studentScoreSummaryRepository;
+    private final StudentTotalCountRepository studentTotalCountRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<StudentRankDto> getRanking(int page, int size, String cursor) {
+        log.debug("Fetching class ranking: page={}, size={}, cursor={}", page, size, cursor != null);
+
+        validateLimit("Page size", size);
+
+        // One extra row tells whether another page follows
+        List<StudentTotalView> rows;
+        if (cursor != null) {
+            RankingCursor position = RankingCursor.decode(cursor);
+            page = position.getPage();
+            rows = studentScoreSummaryRepository.findRankingAfter(position.getTotalScore(), position.getStudentId(),
+                    size + 1);
+        } else {
+            if (page < 0) {
+                throw new ValidationException("Page must not be negative. Got: " + page);
+            }
+            rows = studentScoreSummaryRepository.findRanking((long) page * size, size + 1);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<StudentTotalView> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<StudentRankDto> content = new ArrayList<>(pageRows.size());
+        if (!pageRows.isEmpty()) {
+            List<StudentTotalCount> counts = studentTotalCountRepository.findFromTotalDownward(
+                    pageRows.get(pageRows.size() - 1).getTotalScore());
+            for (StudentTotalView row : pageRows) {
+                content.add(toStudentRankDto(row, countAbove(counts, row.getTotalScore()) + 1));
+            }
+        }
+
+        String nextCursor = hasNext ? RankingCursor.after(pageRows.get(pageRows.size() - 1), page + 1).encode() :
+                null;
+
+        return PagedResponse.<StudentRankDto>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .countMode(CountMode.NONE)
+                .first(page == 0)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .hasPrevious(page > 0)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentRankDto getStudentRank(Long studentId) {
+        log.debug("Fetching class rank for student ID: {}", studentId);
+
+        StudentTotalView student = studentScoreSummaryRepository.findTotal(studentId)
+                .orElseThrow(() -> studentRepository.existsById(studentId) ?
+                        new ResourceNotFoundException("No ranking available for student with ID: " + studentId) :
+                        new ResourceNotFoundException("Student not found with ID: " + studentId));
+
+        List<StudentTotalCount> counts = studentTotalCountRepository.findFromTotalDownward(student.getTotalScore());
+        long higherCount = countAbove(counts, student.getTotalScore());
+        long tiedCount = Math.max(1, counts.stream()
+                .filter(count -> count.getTotalScore().equals(student.getTotalScore()))
+                .mapToLong(StudentTotalCount::getStudentCount)
+                .sum());
+
+        // Everyone neither ranked above nor tied is ranked below; counts written by a transaction
+        // that committed between the reads are kept within range
+        long classSize = Math.max(studentTotalCountRepository.countStudents(), higherCount + tiedCount);
+        long lowerCount = classSize - higherCount - tiedCount;
+
+        // PERCENT_RANK() ordered by ascending total: the share of the rest of the class ranked below
+        double percentile = classSize > 1 ? lowerCount * 100.0 / (classSize - 1) : 0.0;
+
+        StudentRankDto rank = toStudentRankDto(student, higherCount + 1);
+        rank.setPercentile(Math.round(percentile * 100.0) / 100.0);
+        rank.setClassSize(classSize);
+        return rank;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SubjectRankDto> getTopBySubject(String subject, int limit) {
+        log.debug("Fetching top {} students in subject: {}", limit, subject);
+
+        validateLimit("Limit", limit);
+
+        return scoreRepository.findTopBySubject(subject, limit).stream()
+                .map(this::toSubjectRankDto)
+                .collect(Collectors.toList());
+    }
+
+    private void validateLimit(String name, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException(
+                    String.format("%s must be between 1 and %d. Got: %d", name, MAX_LIMIT, limit));
+        }
+    }
+
+    // Students with a higher total, from counts ordered by descending total; RANK() is one more
+    private long countAbove(List<StudentTotalCount> counts, Long totalScore) {
+        long above = 0;
+        for (StudentTotalCount count : counts) {
+            if (count.getTotalScore() <= totalScore) {
+                break;
+            }
+            above += count.getStudentCount();
+        }
+        return above;
+    }
+
+    private StudentRankDto toStudentRankDto(StudentTotalView view, long rank) {
+        return StudentRankDto.builder()
+                .studentId(view.getStudentId())
+                .firstName(view.getFirstName())
+                .lastName(view.getLastName())
+                .totalScore(view.getTotalScore())
+                .rank(rank)
+                .build();
+    }
+
+    private SubjectRankDto toSubjectRankDto(SubjectRankView view) {
+        return SubjectRankDto.builder()
+                .studentId(view.getStudentId())
+                .firstName(view.getFirstName())
+                .lastName(view.getLastName())
+                .subject(view.getSubject())
+                .score(view.getScore())
+                .rank(view.getSubjectRank())
+                .build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.studentscoringapp.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.repository.specification.StudentSpecifications.FilterTerm;
+import com.studentscoringapp.service.ExportFormat;
+import com.studentscoringapp.service.ReportExportService;
+import com.studentscoringapp.util.ReportAssembler;
+import com.studentscoringapp.util.ScoreSummary;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the report of every student, or of the students matching a filter, without holding more
+ * than one student in memory.
+ *
+ * <p>Students and their scores are read in student order from a single join through a
+ * server-side cursor (PostgreSQL only uses one inside a transaction with a fetch size), and the
+ * statistics of each student are accumulated while its rows go by. The order matches the primary
+ * key of students and the (student_id, subject) unique index of scores, so the join can stream
+ * from both indexes without sorting; subjects come out in alphabetical order.</p>
+ */
+@Service
+@Timed("app.service")
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportServiceImpl implements ReportExportService {
+
+    private static final String EXPORT_QUERY = "SELECT s.id, s.first_name, s.last_name, s.email, " +
+            "sc.subject, sc.score " +
+            "FROM students s LEFT JOIN scores sc ON sc.student_id = s.id%s " +
+            "ORDER BY s.id, sc.subject";
+
+    private static final List<String> CSV_HEADER = List.of("studentId", "firstName", "lastName", "email",
+            "subjectScores", "meanScore", "medianScore", "modeScore", "totalScore", "highestScore", "lowestScore");
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.reports.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public void exportReports(ExportFormat format, OutputStream outputStream) {
+        exportReports(format, Collections.emptyList(), outputStream, exported -> { });
+    }
+
+    @Override
+    public long exportReports(ExportFormat format, List<FilterTerm> filters, OutputStream outputStream,
+                              LongConsumer progress) {
+        log.info("Exporting student reports as {} with {} filters", format, filters.size());
+
+        // Same predicates as StudentSpecifications, applied to the students side of the join
+        StringBuilder where = new StringBuilder();
+        List<Object> parameters = new ArrayList<>();
+        for (FilterTerm term : filters) {
+            where.append(parameters.isEmpty() ? " WHERE " : " AND ")
+                    .append("lower(s.").append(term.getColumn()).append(")")
+                    .append(term.isExact() ? " = ?" : " LIKE ? ESCAPE '\\'");
+            parameters.add(term.getValue());
+        }
+        String query = String.format(EXPORT_QUERY, where);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ReportRowHandler handler = new ReportRowHandler(format, writer, progress);
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(query, handler, parameters.toArray()));
+            handler.finish();
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        log.info("Exported {} student reports", handler.exported);
+        return handler.exported;
+    }
+
+    private void write(ExportFormat format, Writer writer, ReportDto report) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(report));
+            writer.write('\n');
+            return;
+        }
+
+        writeCsvRow(writer, List.of(
+                String.valueOf(report.getStudentId()),
+                report.getFirstName(),
+                report.getLastName(),
+                report.getEmail() != null ? report.getEmail() : "",
+                report.getSubjectScores().entrySet().stream()
+                        .map(entry -> escapeSubject(entry.getKey()) + "=" + entry.getValue())
+                        .collect(Collectors.joining(";")),
+                String.valueOf(report.getMeanScore()),
+                String.valueOf(report.getMedianScore()),
+                String.valueOf(report.getModeScore()),
+                String.valueOf(report.getTotalScore()),
+                String.valueOf(report.getHighestScore()),
+                String.valueOf(report.getLowestScore())));
+    }
+
+    private void writeCsvRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(fields.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // Subject names are escaped so that the ';' and '=' separators of the subjectScores column stay unambiguous
+    private String escapeSubject(String subject) {
+        return subject.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace("=", "\\=");
+    }
+
+    private String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * Accumulates the rows of one student at a time and writes its report once the next student starts.
+     */
+    private class ReportRowHandler implements RowCallbackHandler {
+
+        private final ExportFormat format;
+        private final Writer writer;
+        private final LongConsumer progress;
+        private final ScoreSummary summary = new ScoreSummary();
+
+        private Long studentId;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private Map<String, Integer> subjectScores;
+        private long exported;
+
+        private ReportRowHandler(ExportFormat format, Writer writer, LongConsumer progress) {
+            this.format = format;
+            this.writer = writer;
+            this.progress = progress;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (studentId == null || studentId != id) {
+                finish();
+                studentId = id;
+                firstName = rs.getString("first_name");
+                lastName = rs.getString("last_name");
+                email = rs.getString("email");
+                subjectScores = new HashMap<>();
+                summary.reset();
+            }
+
+            String subject = rs.getString("subject");
+            if (subject != null) {
+                int score = rs.getInt("score");
+                subjectScores.put(subject, score);
+                summary.add(score);
+            }
+        }
+
+        private void finish() {
+            if (studentId == null) {
+                return;
+            }
+            try {
+                write(format, writer, ReportAssembler.createReportDto(studentId, firstName, lastName, email,
+                        subjectScores, summary));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize report of student " + studentId, ex);
+            } catch (IOException ex) {
+                // Usually the client went away; abort the query instead of reading the rest of the table
+                throw new UncheckedIOException(ex);
+            }
+            exported++;
+            studentId = null;
+            progress.accept(exported);
+        }
+    }
+}
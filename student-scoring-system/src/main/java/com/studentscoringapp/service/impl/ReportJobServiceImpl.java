@@ -0,0 +1,430 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.ReportJobDto;
+import com.studentscoringapp.dto.ReportJobRequestDto;
+import com.studentscoringapp.entity.ReportJob;
+import com.studentscoringapp.entity.ReportJobStatus;
+import com.studentscoringapp.exception.ConflictException;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.repository.ReportJobRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.specification.StudentSpecifications;
+import com.studentscoringapp.service.ExportFormat;
+import com.studentscoringapp.service.ReportExportService;
+import com.studentscoringapp.service.ReportJobService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs report jobs on a bounded pool of workers, off the request threads.
+ *
+ * <p>Every state change is committed to {@code report_jobs} right away. Progress is counted in
+ * memory while a job exports and written every {@code app.reports.jobs.progress-flush-interval} by
+ * one short transaction for all running jobs, so a running job holds a single connection, the one
+ * its export reads from. The same transaction saves a heartbeat for every job this instance owns;
+ * unfinished jobs whose heartbeat is older than {@code app.reports.jobs.stale-after} belong to an
+ * instance that stopped and are taken over, on startup and periodically after.</p>
+ *
+ * <p>Results are written gzip-compressed to a temporary file that is moved into place once
+ * complete, so a result file is never partial, and are deleted after
+ * {@code app.reports.jobs.result-ttl}.</p>
+ */
+@Service
+@Timed("app.service")
+@RequiredArgsConstructor
+@Slf4j
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportJobRepository reportJobRepository;
+    private final StudentRepository studentRepository;
+    private final ReportExportService reportExportService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.reports.jobs.threads:2}")
+    private int threads;
+
+    @Value("${app.reports.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.reports.jobs.storage-dir:${java.io.tmpdir}/student-scoring-reports}")
+    private Path storageDir;
+
+    @Value("${app.reports.jobs.progress-flush-interval:2s}")
+    private Duration progressFlushInterval;
+
+    @Value("${app.reports.jobs.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @Value("${app.reports.jobs.stale-after:1m}")
+    private Duration staleAfter;
+
+    @Value("${app.reports.jobs.result-ttl:7d}")
+    private Duration resultTtl;
+
+    @Value("${app.reports.jobs.cleanup-interval:1h}")
+    private Duration cleanupInterval;
+
+    // Identifies this instance as the owner of the jobs it queues and runs
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // Jobs queued or running on this instance, kept alive by the heartbeat
+    private final Set<Long> ownedJobs = ConcurrentHashMap.newKeySet();
+
+    // Reports written so far by each running job on this instance
+    private final Map<Long, AtomicLong> runningProgress = new ConcurrentHashMap<>();
+
+    private ThreadPoolTaskExecutor executor;
+    private ThreadPoolTaskScheduler jobScheduler;
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean shuttingDown;
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(storageDir);
+
+        // Job state is committed independently of whatever transaction is running
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-job-");
+        executor.initialize();
+
+        // One thread, so the progress save, takeover and cleanup never use more than one connection together
+        jobScheduler = new ThreadPoolTaskScheduler();
+        jobScheduler.setThreadNamePrefix("report-job-scheduler-");
+        jobScheduler.initialize();
+        jobScheduler.scheduleWithFixedDelay(this::flushProgress, progressFlushInterval);
+        jobScheduler.scheduleWithFixedDelay(this::recoverUnfinishedJobs,
+                Instant.now().plus(staleAfter), staleAfter);
+        jobScheduler.scheduleWithFixedDelay(this::deleteExpiredResults, cleanupInterval);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs stay RUNNING or QUEUED and are taken over once their heartbeat is stale
+        shuttingDown = true;
+        jobScheduler.shutdown();
+        executor.shutdown();
+    }
+
+    @Override
+    @Transactional
+    public ReportJobDto createJob(ReportJobRequestDto request) {
+        ExportFormat format = ExportFormat.fromParameter(
+                request.getFormat() != null ? request.getFormat() : "ndjson");
+
+        ReportJob job = reportJobRepository.save(ReportJob.builder()
+                .status(ReportJobStatus.QUEUED)
+                .format(format)
+                .firstNameFilter(request.getFirstName())
+                .lastNameFilter(request.getLastName())
+                .emailFilter(request.getEmail())
+                .owner(instanceId)
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+        log.info("Created report job {} as {}", job.getId(), format);
+
+        Long jobId = job.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Workers must not look for the job before it is committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+
+        return convertToDto(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReportJobDto getJob(Long id) {
+        ReportJobDto job = convertToDto(findJob(id));
+
+        // Fresher than the last flushed value when the job runs on this instance
+        AtomicLong progress = runningProgress.get(id);
+        if (progress != null && job.getStatus() == ReportJobStatus.RUNNING) {
+            job.setProcessedStudents(Math.max(progress.get(), job.getProcessedStudents()));
+            job.setProgressPercent(progressPercent(job.getTotalStudents(), job.getProcessedStudents()));
+        }
+        return job;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Path getResultFile(Long id) {
+        ReportJob job = findJob(id);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ConflictException(String.format("Report job %d has no result: it is %s", id,
+                    job.getStatus().name().toLowerCase(Locale.ROOT)));
+        }
+
+        if (job.getResultFile() == null) {
+            throw new ResourceNotFoundException("Result of report job " + id + " has expired");
+        }
+        Path file = Paths.get(job.getResultFile());
+        if (!Files.isReadable(file)) {
+            throw new ResourceNotFoundException("Result file of report job " + id + " no longer exists");
+        }
+        return file;
+    }
+
+    @Override
+    public void recoverUnfinishedJobs() {
+        try {
+            List<ReportJob> jobs = reportJobRepository.findByStatusInOrderById(
+                    List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING));
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            for (ReportJob job : jobs) {
+                if (ownedJobs.contains(job.getId())) {
+                    continue;
+                }
+                // Partial output is discarded; a running job starts over
+                Integer taken = transactionTemplate.execute(status ->
+                        reportJobRepository.takeOver(job.getId(), instanceId, now, staleBefore));
+                if (taken == null || taken == 0) {
+                    continue;
+                }
+
+                log.info("Took over report job {} from stopped instance {} (resume={})",
+                        job.getId(), job.getOwner(), resumeOnStartup);
+                if (resumeOnStartup) {
+                    submit(job.getId());
+                } else {
+                    fail(job.getId(), "Interrupted by an application restart");
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not recover report jobs: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void deleteExpiredResults() {
+        try {
+            LocalDateTime completedBefore = LocalDateTime.now().minus(resultTtl);
+            Integer expired = transactionTemplate.execute(status ->
+                    reportJobRepository.expireResults(completedBefore));
+
+            // Also removes results and partial files that no job refers to any more
+            FileTime modifiedBefore = FileTime.from(Instant.now().minus(resultTtl));
+            long deleted = 0;
+            try (Stream<Path> files = Files.list(storageDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(modifiedBefore) < 0) {
+                        deleteQuietly(file);
+                        deleted++;
+                    }
+                }
+            }
+            if (deleted > 0 || (expired != null && expired > 0)) {
+                log.info("Expired {} report job results and deleted {} files older than {}",
+                        expired, deleted, resultTtl);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not delete expired report job results: {}", ex.getMessage());
+        }
+    }
+
+    private void submit(Long jobId) {
+        ownedJobs.add(jobId);
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (TaskRejectedException ex) {
+            log.warn("Report job {} rejected: {} jobs already queued", jobId, queueCapacity);
+            fail(jobId, "Too many report jobs queued, please retry later");
+            ownedJobs.remove(jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            runClaimed(jobId);
+        } finally {
+            ownedJobs.remove(jobId);
+        }
+    }
+
+    private void runClaimed(Long jobId) {
+        Integer claimed = transactionTemplate.execute(status ->
+                reportJobRepository.claim(jobId, instanceId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        ReportJob job = findJob(jobId);
+        Path target = storageDir.resolve(
+                String.format("report-job-%d.%s.gz", jobId, job.getFormat().getFileExtension()));
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        log.info("Running report job {}", jobId);
+
+        AtomicLong progress = new AtomicLong();
+        runningProgress.put(jobId, progress);
+        try {
+            long total = studentRepository.count(StudentSpecifications.withFilters(
+                    job.getFirstNameFilter(), job.getLastNameFilter(), job.getEmailFilter()));
+            transactionTemplate.executeWithoutResult(status -> findJob(jobId).setTotalStudents(total));
+
+            long exported;
+            try (OutputStream output = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(partial)))) {
+                exported = reportExportService.exportReports(job.getFormat(),
+                        StudentSpecifications.filterTerms(
+                                job.getFirstNameFilter(), job.getLastNameFilter(), job.getEmailFilter()),
+                        output,
+                        progress::set);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(target);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                ReportJob completed = findJob(jobId);
+                if (!isOwnedRunning(completed)) {
+                    log.warn("Report job {} was taken over by instance {}; dropping this run", jobId,
+                            completed.getOwner());
+                    return;
+                }
+                completed.setStatus(ReportJobStatus.COMPLETED);
+                completed.setProcessedStudents(exported);
+                completed.setResultFile(target.toAbsolutePath().toString());
+                completed.setResultSize(size);
+                completed.setCompletedAt(LocalDateTime.now());
+            });
+            log.info("Report job {} completed: {} reports, {} bytes", jobId, exported, size);
+        } catch (IOException | RuntimeException ex) {
+            deleteQuietly(partial);
+            if (shuttingDown) {
+                log.info("Report job {} interrupted by shutdown", jobId);
+                return;
+            }
+            log.error("Report job {} failed", jobId, ex);
+            fail(jobId, ex.getMessage());
+        } finally {
+            runningProgress.remove(jobId);
+        }
+    }
+
+    private void flushProgress() {
+        if (ownedJobs.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                reportJobRepository.heartbeat(instanceId, now);
+                runningProgress.forEach((jobId, progress) ->
+                        reportJobRepository.updateProgress(jobId, instanceId, progress.get()));
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Could not save report job progress: {}", ex.getMessage());
+        }
+    }
+
+    private void fail(Long jobId, String message) {
+        String errorMessage = message != null && message.length() > MAX_ERROR_LENGTH ?
+                message.substring(0, MAX_ERROR_LENGTH) : message;
+        // A job taken over by another instance is left to it
+        transactionTemplate.executeWithoutResult(status -> reportJobRepository.findById(jobId)
+                .filter(job -> instanceId.equals(job.getOwner()))
+                .ifPresent(job -> {
+                    job.setStatus(ReportJobStatus.FAILED);
+                    job.setErrorMessage(errorMessage);
+                    job.setCompletedAt(LocalDateTime.now());
+                }));
+    }
+
+    private boolean isOwnedRunning(ReportJob job) {
+        return instanceId.equals(job.getOwner()) && job.getStatus() == ReportJobStatus.RUNNING;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private ReportJob findJob(Long id) {
+        return reportJobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report job not found with ID: " + id));
+    }
+
+    private ReportJobDto convertToDto(ReportJob job) {
+        Long total = job.getTotalStudents();
+        Double progressPercent = job.getStatus() == ReportJobStatus.COMPLETED ? Double.valueOf(100.0) :
+                progressPercent(total, job.getProcessedStudents());
+
+        return ReportJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .format(job.getFormat().getFileExtension())
+                .firstName(job.getFirstNameFilter())
+                .lastName(job.getLastNameFilter())
+                .email(job.getEmailFilter())
+                .totalStudents(total)
+                .processedStudents(job.getProcessedStudents())
+                .progressPercent(progressPercent)
+                .resultSize(job.getResultSize())
+                .resultUrl(job.getStatus() == ReportJobStatus.COMPLETED && job.getResultFile() != null ?
+                        "/api/v1/reports/jobs/" + job.getId() + "/result" : null)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private Double progressPercent(Long total, long processed) {
+        return total == null ? null :
+                total == 0 ? 0.0 :
+                Math.round(processed * 10000.0 / total) / 100.0;
+    }
+}
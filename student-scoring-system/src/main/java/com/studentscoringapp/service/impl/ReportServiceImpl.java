@@ -1,123 +1,168 @@
 package com.studentscoringapp.service.impl;
 
+import com.studentscoringapp.config.CacheConfig;
 import com.studentscoringapp.dto.ReportDto;
 import com.studentscoringapp.dto.PagedResponse;
-import com.studentscoringapp.entity.Student;
-import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.dto.SubjectStatisticsDto;
 import com.studentscoringapp.exception.ResourceNotFoundException;
 import com.studentscoringapp.repository.StudentRepository;
 import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.projection.ScoreStatisticsView;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.projection.SubjectScoreRow;
+import com.studentscoringapp.service.CountMode;
 import com.studentscoringapp.service.ReportService;
-import com.studentscoringapp.util.StatisticsUtil;
+import com.studentscoringapp.service.StatisticsStrategy;
+import com.studentscoringapp.util.ReportAssembler;
+import com.studentscoringapp.util.ScoreHistogram;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ReportServiceImpl implements ReportService {
 
+    private static final double[] QUANTILES = {0.10, 0.25, 0.50, 0.75, 0.90};
+    private static final String ASSEMBLY_METRIC = "app.reports.assembly";
+
     private final StudentRepository studentRepository;
     private final ScoreRepository scoreRepository;
+    private final StudentScoreSummaryRepository studentScoreSummaryRepository;
+    private final StudentPageLoader studentPageLoader;
+    private final ParallelReportAssembler parallelReportAssembler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.reports.statistics-strategy:jvm}")
+    private StatisticsStrategy statisticsStrategy;
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.STUDENT_REPORTS, key = "#studentId")
     public ReportDto generateStudentReport(Long studentId) {
-        log.info("Generating report for student ID: {}", studentId);
+        log.debug("Generating report for student ID: {}", studentId);
 
-        Student student = studentRepository.findById(studentId)
+        StudentRow student = studentRepository.findRowById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
 
-        List<Score> scores = scoreRepository.findByStudentId(studentId);
+        List<SubjectScoreRow> scores = scoreRepository.findRowsByStudentId(studentId);
 
-        return createReportDto(student, scores);
+        return ReportAssembler.createReportDto(student, scores,
+                findStatistics(List.of(studentId)).get(studentId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<ReportDto> generateAllStudentsReport(Pageable pageable) {
-        log.info("Generating report for all students with pagination: page={}, size={}",
-                pageable.getPageNumber(), pageable.getPageSize());
-
-        Page<Student> studentPage = studentRepository.findAll(pageable);
-
-        List<ReportDto> reports = studentPage.getContent().stream()
-                .map(student -> {
-                    List<Score> scores = scoreRepository.findByStudentId(student.getId());
-                    return createReportDto(student, scores);
-                })
-                .collect(Collectors.toList());
-
-        return PagedResponse.<ReportDto>builder()
-                .content(reports)
-                .page(studentPage.getNumber())
-                .size(studentPage.getSize())
-                .totalElements(studentPage.getTotalElements())
-                .totalPages(studentPage.getTotalPages())
-                .first(studentPage.isFirst())
-                .last(studentPage.isLast())
-                .hasNext(studentPage.hasNext())
-                .hasPrevious(studentPage.hasPrevious())
-                .build();
+        return generateReports(null, null, null, pageable, null, CountMode.EXACT);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<ReportDto> generateFilteredReport(String firstName, String lastName,
                                                            String email, Pageable pageable) {
-        log.info("Generating filtered report: firstName={}, lastName={}, email={}",
-                firstName, lastName, email);
-
-        Page<Student> studentPage = studentRepository.findWithFilters(firstName, lastName, email, pageable);
+        return generateReports(firstName, lastName, email, pageable, null, CountMode.EXACT);
+    }
 
-        List<ReportDto> reports = studentPage.getContent().stream()
-                .map(student -> {
-                    List<Score> scores = scoreRepository.findByStudentId(student.getId());
-                    return createReportDto(student, scores);
-                })
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<ReportDto> generateReports(String firstName, String lastName, String email,
+                                                    Pageable pageable, String cursor, CountMode countMode) {
+        log.debug("Generating reports: firstName={}, lastName={}, email={}, page={}, size={}, cursor={}, count={}",
+                firstName, lastName, email, pageable.getPageNumber(), pageable.getPageSize(),
+                cursor != null, countMode);
+
+        return studentPageLoader.loadPage(firstName, lastName, email, pageable, cursor, countMode,
+                students -> parallelReportAssembler.convert(students, this::createReportDtos));
+    }
 
-        return PagedResponse.<ReportDto>builder()
-                .content(reports)
-                .page(studentPage.getNumber())
-                .size(studentPage.getSize())
-                .totalElements(studentPage.getTotalElements())
-                .totalPages(studentPage.getTotalPages())
-                .first(studentPage.isFirst())
-                .last(studentPage.isLast())
-                .hasNext(studentPage.hasNext())
-                .hasPrevious(studentPage.hasPrevious())
+    @Override
+    @Transactional(readOnly = true)
+    public SubjectStatisticsDto generateSubjectStatistics(String subject) {
+        log.debug("Generating statistics for subject: {}", subject);
+
+        // The database returns one row per distinct score, at most 101, however many students there are
+        ScoreHistogram histogram = new ScoreHistogram();
+        scoreRepository.findScoreFrequenciesBySubject(subject)
+                .forEach(row -> histogram.add(row.getScore(), row.getFrequency()));
+
+        if (histogram.getCount() == 0) {
+            throw new ResourceNotFoundException("No scores found for subject: " + subject);
+        }
+
+        Map<String, Double> quantiles = new LinkedHashMap<>();
+        for (double quantile : QUANTILES) {
+            quantiles.put("p" + Math.round(quantile * 100), histogram.getQuantile(quantile));
+        }
+
+        return SubjectStatisticsDto.builder()
+                .subject(subject)
+                .scoreCount(histogram.getCount())
+                .meanScore(histogram.getMean())
+                .medianScore(histogram.getMedian())
+                .modeScore(histogram.getMode())
+                .standardDeviation(histogram.getStandardDeviation())
+                .highestScore(histogram.getMax())
+                .lowestScore(histogram.getMin())
+                .quantiles(quantiles)
+                .histogram(histogram.getCounts())
                 .build();
     }
 
-    private ReportDto createReportDto(Student student, List<Score> scores) {
-        Map<String, Integer> subjectScores = scores.stream()
-                .collect(Collectors.toMap(Score::getSubject, Score::getScore));
+    private List<ReportDto> createReportDtos(List<StudentRow> students) {
+        if (students.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        List<Integer> scoreValues = scores.stream()
-                .map(Score::getScore)
+        // Load the scores for the whole page in one query and group them per student
+        List<Long> studentIds = students.stream()
+                .map(StudentRow::id)
                 .collect(Collectors.toList());
 
-        return ReportDto.builder()
-                .studentId(student.getId())
-                .firstName(student.getFirstName())
-                .lastName(student.getLastName())
-                .email(student.getEmail())
-                .subjectScores(subjectScores)
-                .meanScore(StatisticsUtil.calculateMean(scoreValues))
-                .medianScore(StatisticsUtil.calculateMedian(scoreValues))
-                .modeScore(StatisticsUtil.calculateMode(scoreValues))
-                .totalScore(StatisticsUtil.calculateTotal(scoreValues))
-                .highestScore(StatisticsUtil.findMax(scoreValues))
-                .lowestScore(StatisticsUtil.findMin(scoreValues))
-                .build();
+        Map<Long, List<SubjectScoreRow>> scoresByStudentId = scoreRepository.findRowsByStudentIdIn(studentIds).stream()
+                .collect(Collectors.groupingBy(SubjectScoreRow::studentId));
+
+        Map<Long, ScoreStatisticsView> statisticsByStudentId = findStatistics(studentIds);
+
+        // Times the in-memory assembly alone; the queries above are timed per repository method
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<ReportDto> reports = students.stream()
+                .map(student -> ReportAssembler.createReportDto(student,
+                        scoresByStudentId.getOrDefault(student.id(), Collections.emptyList()),
+                        statisticsByStudentId.get(student.id())))
+                .collect(Collectors.toList());
+        sample.stop(meterRegistry.timer(ASSEMBLY_METRIC,
+                "strategy", statisticsStrategy.name().toLowerCase(Locale.ROOT)));
+        return reports;
+    }
+
+    // Precomputed statistics per student; empty when they are calculated from the scores in the JVM
+    private Map<Long, ScoreStatisticsView> findStatistics(List<Long> studentIds) {
+        List<? extends ScoreStatisticsView> statistics = switch (statisticsStrategy) {
+            case DATABASE -> scoreRepository.findStatisticsByStudentIdIn(studentIds);
+            case SUMMARY -> studentScoreSummaryRepository.findByStudentIdIn(studentIds);
+            case JVM -> Collections.emptyList();
+        };
+
+        return statistics.stream()
+                .collect(Collectors.toMap(ScoreStatisticsView::getStudentId, Function.identity()));
     }
-}
\ No newline at end of file
+}
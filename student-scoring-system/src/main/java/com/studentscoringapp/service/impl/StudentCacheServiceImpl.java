@@ -0,0 +1,69 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.config.CacheConfig;
+import com.studentscoringapp.service.StudentCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentCacheServiceImpl implements StudentCacheService {
+
+    private static final List<String> STUDENT_CACHES = List.of(CacheConfig.STUDENTS, CacheConfig.STUDENT_REPORTS);
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Evicts the cached student and report right away and again after the surrounding transaction
+     * commits, so a read racing the write cannot leave the pre-commit state cached.
+     */
+    @Override
+    public void evictStudent(Long studentId) {
+        evict(studentId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(studentId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Same as {@link #evictStudent(Long)} for many students, with a single after-commit callback.
+     */
+    @Override
+    public void evictStudents(Collection<Long> studentIds) {
+        studentIds.forEach(this::evict);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    studentIds.forEach(StudentCacheServiceImpl.this::evict);
+                }
+            });
+        }
+    }
+
+    private void evict(Long studentId) {
+        for (String cacheName : STUDENT_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(studentId);
+            }
+        }
+        log.debug("Evicted cached student and report for ID: {}", studentId);
+    }
+}
@@ -0,0 +1,241 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.BulkImportResponseDto;
+import com.studentscoringapp.dto.BulkImportRowResultDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.service.StudentImportService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("app.service")
+@RequiredArgsConstructor
+@Slf4j
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private final StudentRepository studentRepository;
+    private final ScoreRepository scoreRepository;
+    private final StudentScoreSummaryService studentScoreSummaryService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.students.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public BulkImportResponseDto importStudents(Iterator<StudentRequestDto> students) {
+        log.info("Importing students in chunks of {}", chunkSize);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<BulkImportRowResultDto> results = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int row = 0;
+
+        while (true) {
+            StudentRequestDto student;
+            try {
+                if (!students.hasNext()) {
+                    break;
+                }
+                student = students.next();
+            } catch (RuntimeException ex) {
+                // The rest of the body cannot be read reliably once a row is malformed
+                results.addAll(importChunk(chunk, transactionTemplate));
+                chunk.clear();
+                results.add(failed(row + 1, null, List.of("Malformed input: " + ex.getMessage())));
+                break;
+            }
+
+            chunk.add(new ImportRow(++row, student));
+            if (chunk.size() == chunkSize) {
+                results.addAll(importChunk(chunk, transactionTemplate));
+                chunk.clear();
+            }
+        }
+        results.addAll(importChunk(chunk, transactionTemplate));
+
+        int createdCount = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkImportRowResultDto.Status.CREATED)
+                .count();
+
+        log.info("Imported {} of {} students", createdCount, results.size());
+
+        return BulkImportResponseDto.builder()
+                .totalRows(results.size())
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
+    private List<BulkImportRowResultDto> importChunk(List<ImportRow> rows, TransactionTemplate transactionTemplate) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> persistChunk(rows));
+        } catch (DataAccessException ex) {
+            // A concurrent writer took one of the keys after the uniqueness check; the whole chunk rolled back
+            log.warn("Import chunk starting at row {} failed: {}", rows.get(0).row, ex.getMessage());
+            String error = "Chunk rolled back: " + ex.getMostSpecificCause().getMessage();
+            return rows.stream()
+                    .map(row -> failed(row.row, row.request != null ? row.request.getStudentId() : null, List.of(error)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<BulkImportRowResultDto> persistChunk(List<ImportRow> rows) {
+        rows.forEach(row -> row.errors = validate(row.request));
+
+        // One query for every email and student ID in the chunk that is already taken
+        Set<String> emails = new HashSet<>();
+        Set<String> studentIds = new HashSet<>();
+        for (ImportRow row : rows) {
+            if (row.errors.isEmpty() && row.request.getEmail() != null) {
+                emails.add(row.request.getEmail());
+            }
+            if (row.errors.isEmpty() && row.request.getStudentId() != null) {
+                studentIds.add(row.request.getStudentId());
+            }
+        }
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenStudentIds = new HashSet<>();
+        if (!emails.isEmpty() || !studentIds.isEmpty()) {
+            studentRepository.findKeysByEmailInOrStudentIdIn(emails, studentIds).forEach(key -> {
+                takenEmails.add(key.getEmail());
+                takenStudentIds.add(key.getStudentId());
+            });
+        }
+
+        List<ImportRow> validRows = new ArrayList<>();
+        for (ImportRow row : rows) {
+            if (!row.errors.isEmpty()) {
+                continue;
+            }
+
+            // Adding to the taken sets also rejects duplicates within the chunk
+            if (row.request.getEmail() != null && !takenEmails.add(row.request.getEmail())) {
+                row.errors.add("Email already exists: " + row.request.getEmail());
+            }
+            if (row.request.getStudentId() != null && !takenStudentIds.add(row.request.getStudentId())) {
+                row.errors.add("Student ID already exists: " + row.request.getStudentId());
+            }
+            if (row.errors.isEmpty()) {
+                row.student = Student.builder()
+                        .firstName(row.request.getFirstName())
+                        .lastName(row.request.getLastName())
+                        .email(row.request.getEmail())
+                        .studentId(row.request.getStudentId())
+                        .build();
+                validRows.add(row);
+            }
+        }
+
+        studentRepository.saveAll(validRows.stream()
+                .map(row -> row.student)
+                .collect(Collectors.toList()));
+
+        List<Score> scores = new ArrayList<>();
+        for (ImportRow row : validRows) {
+            row.subjects().forEach((subject, score) -> scores.add(Score.builder()
+                    .student(row.student)
+                    .subject(subject)
+                    .score(score)
+                    .build()));
+        }
+        scoreRepository.saveAll(scores);
+
+        for (ImportRow row : validRows) {
+            studentScoreSummaryService.createSummary(row.student, row.subjects().values());
+        }
+
+        // Send the batched inserts now and keep the persistence context from growing across chunks
+        entityManager.flush();
+        entityManager.clear();
+
+        return rows.stream()
+                .map(row -> row.student != null ?
+                        BulkImportRowResultDto.builder()
+                                .row(row.row)
+                                .status(BulkImportRowResultDto.Status.CREATED)
+                                .id(row.student.getId())
+                                .studentId(row.student.getStudentId())
+                                .build() :
+                        failed(row.row, row.request != null ? row.request.getStudentId() : null, row.errors))
+                .collect(Collectors.toList());
+    }
+
+    private List<String> validate(StudentRequestDto request) {
+        List<String> errors = new ArrayList<>();
+        if (request == null) {
+            errors.add("Row is empty");
+            return errors;
+        }
+
+        for (ConstraintViolation<StudentRequestDto> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        if (request.getSubjects() != null) {
+            request.getSubjects().forEach((subject, score) -> {
+                if (score == null || score < 0 || score > 100) {
+                    errors.add(String.format("Score for subject '%s' must be between 0 and 100. Got: %s",
+                            subject, score));
+                }
+            });
+        }
+        return errors;
+    }
+
+    private BulkImportRowResultDto failed(int row, String studentId, List<String> errors) {
+        return BulkImportRowResultDto.builder()
+                .row(row)
+                .status(BulkImportRowResultDto.Status.FAILED)
+                .studentId(studentId)
+                .errors(errors)
+                .build();
+    }
+
+    private static class ImportRow {
+
+        private final int row;
+        private final StudentRequestDto request;
+        private List<String> errors;
+        private Student student;
+
+        private ImportRow(int row, StudentRequestDto request) {
+            this.row = row;
+            this.request = request;
+        }
+
+        private Map<String, Integer> subjects() {
+            return request.getSubjects() != null ? request.getSubjects() : Collections.emptyMap();
+        }
+    }
+}
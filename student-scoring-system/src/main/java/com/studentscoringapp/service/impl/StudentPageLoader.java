@@ -0,0 +1,130 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.StudentCountEstimator;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.specification.StudentCursor;
+import com.studentscoringapp.repository.specification.StudentSpecifications;
+import com.studentscoringapp.service.CountMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/**
+ * Loads one page of students for the student and report listings.
+ *
+ * <p>Without a cursor the page is read by offset. With a cursor the query seeks past the last
+ * student of the previous page through the {@code (column, id)} index of the sort attribute, so
+ * every page costs the same as the first one; the page where the students without a value begin
+ * or end takes a second seek. Both modes return
+ * a cursor for the next page. The total is counted, estimated or skipped as the {@link CountMode}
+ * asks; without a count offset pages are read as a slice. Students are read as {@link StudentRow}s,
+ * never as managed entities.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentPageLoader {
+
+    private final StudentRepository studentRepository;
+    private final StudentCountEstimator studentCountEstimator;
+
+    public <T> PagedResponse<T> loadPage(String firstName, String lastName, String email, Pageable pageable,
+                                         String cursor, CountMode countMode,
+                                         Function<List<StudentRow>, List<T>> converter) {
+        Specification<Student> filter = StudentSpecifications.withFilters(firstName, lastName, email);
+        int size = pageable.getPageSize();
+
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        StudentCursor position = cursor != null ? StudentCursor.decode(cursor) : null;
+        String sortBy = position != null ? position.getSortBy() : order.getProperty();
+        Sort.Direction direction = position != null ? position.getDirection() : order.getDirection();
+        // Keyset order breaks ties by id; other sorts are passed through unchanged
+        Sort sort = StudentCursor.supports(sortBy) ? StudentCursor.sort(sortBy, direction) : pageable.getSort();
+
+        Long totalElements = null;
+        if (countMode == CountMode.ESTIMATED) {
+            OptionalLong estimate = studentCountEstimator.estimate(
+                    StudentSpecifications.filterTerms(firstName, lastName, email));
+            if (estimate.isPresent()) {
+                totalElements = estimate.getAsLong();
+            } else {
+                countMode = CountMode.EXACT;
+            }
+        }
+
+        List<StudentRow> students;
+        int page;
+        boolean hasNext;
+
+        if (position == null) {
+            page = pageable.getPageNumber();
+            PageRequest pageRequest = PageRequest.of(page, size, sort);
+            if (countMode == CountMode.EXACT) {
+                // Counts only when the page itself does not reveal the total
+                Page<StudentRow> studentPage = PageableExecutionUtils.getPage(
+                        studentRepository.findRows(filter, sort, pageRequest.getOffset(), size),
+                        pageRequest, () -> studentRepository.count(filter));
+                totalElements = studentPage.getTotalElements();
+                students = studentPage.getContent();
+                hasNext = studentPage.hasNext();
+            } else {
+                // One extra row tells whether another page follows
+                List<StudentRow> rows = studentRepository.findRows(filter, sort, pageRequest.getOffset(), size + 1);
+                hasNext = rows.size() > size;
+                students = hasNext ? rows.subList(0, size) : rows;
+            }
+        } else {
+            page = position.getPage();
+            // One extra row tells whether another page follows
+            List<StudentRow> rows = new ArrayList<>(studentRepository.findRows(
+                    filter.and(StudentSpecifications.after(position)), sort, 0, size + 1));
+            Optional<Specification<Student>> afterNulls = StudentSpecifications.afterNulls(position);
+            if (rows.size() <= size && afterNulls.isPresent()) {
+                // The page crosses between students with and without a value for the sort attribute
+                rows.addAll(studentRepository.findRows(filter.and(afterNulls.get()), sort, 0, size + 1 - rows.size()));
+            }
+            hasNext = rows.size() > size;
+            students = hasNext ? rows.subList(0, size) : rows;
+            if (countMode == CountMode.EXACT) {
+                totalElements = studentRepository.count(filter);
+            }
+        }
+
+        if (countMode == CountMode.ESTIMATED) {
+            // Planner statistics can lag behind; never report fewer rows than the pages already returned
+            long seen = (long) page * size + students.size();
+            totalElements = hasNext ? Math.max(totalElements, seen + 1) : seen;
+        }
+
+        String nextCursor = hasNext && StudentCursor.supports(sortBy) ?
+                StudentCursor.after(students.get(students.size() - 1), sortBy, direction, page + 1).encode() :
+                null;
+
+        return PagedResponse.<T>builder()
+                .content(converter.apply(students))
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalElements != null ? (int) Math.ceil((double) totalElements / size) : null)
+                .countMode(countMode)
+                .first(page == 0)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .hasPrevious(page > 0)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.entity.StudentScoreSummary;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.StudentCacheService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import com.studentscoringapp.util.ScoreSummary;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("app.service")
+@RequiredArgsConstructor
+@Slf4j
+public class StudentScoreSummaryServiceImpl implements StudentScoreSummaryService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final StudentRepository studentRepository;
+    private final ScoreRepository scoreRepository;
+    private final StudentScoreSummaryRepository summaryRepository;
+    private final EntityManager entityManager;
+    private final StudentTotalCountRepository totalCountRepository;
+    private final StudentCacheService studentCacheService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public void createSummary(Student student, Collection<Integer> scores) {
+        StudentScoreSummary summary = summaryRepository.save(buildSummary(student, scores));
+        recordTotalChange(null, summary.getTotalScore());
+    }
+
+    @Override
+    @Transactional
+    public void refreshSummary(Student student, Collection<Integer> scores) {
+        StudentScoreSummary summary = summaryRepository.findById(student.getId())
+                .orElse(null);
+
+        if (summary == null) {
+            summary = summaryRepository.save(buildSummary(student, scores));
+            recordTotalChange(null, summary.getTotalScore());
+        } else {
+            Long previousTotal = summary.getTotalScore();
+            applyStatistics(summary, scores);
+            recordTotalChange(previousTotal, summary.getTotalScore());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void refreshSummary(Long studentId) {
+        List<Integer> scores = scoreRepository.findByStudentId(studentId).stream()
+                .map(Score::getScore)
+                .collect(Collectors.toList());
+
+        refreshSummary(entityManager.getReference(Student.class, studentId), scores);
+    }
+
+    @Override
+    @Transactional
+    public void deleteSummary(Long studentId) {
+        List<Long> previousTotals = summaryRepository.findTotalsByStudentIdIn(List.of(studentId));
+        summaryRepository.deleteByStudentIdIn(List.of(studentId));
+        previousTotals.forEach(total -> recordTotalChange(total, null));
+    }
+
+    @Override
+    public long rebuildAllSummaries() {
+        log.info("Rebuilding student score summaries");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long rebuilt = 0;
+        Long afterId = Long.MIN_VALUE;
+
+        while (true) {
+            List<Long> studentIds = studentRepository.findIdsAfter(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (studentIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> rebuildSummaries(studentIds));
+
+            rebuilt += studentIds.size();
+            afterId = studentIds.get(studentIds.size() - 1);
+        }
+
+        log.info("Rebuilt {} student score summaries", rebuilt);
+        return rebuilt;
+    }
+
+    private void rebuildSummaries(List<Long> studentIds) {
+        Map<Long, List<Integer>> scoresByStudentId = scoreRepository.findByStudentIdIn(studentIds).stream()
+                .collect(Collectors.groupingBy(score -> score.getStudent().getId(),
+                        Collectors.mapping(Score::getScore, Collectors.toList())));
+
+        List<Long> previousTotals = summaryRepository.findTotalsByStudentIdIn(studentIds);
+        summaryRepository.deleteByStudentIdIn(studentIds);
+        previousTotals.forEach(total -> recordTotalChange(total, null));
+
+        List<StudentScoreSummary> summaries = studentIds.stream()
+                .map(studentId -> buildSummary(entityManager.getReference(Student.class, studentId),
+                        scoresByStudentId.getOrDefault(studentId, Collections.emptyList())))
+                .collect(Collectors.toList());
+
+        summaryRepository.saveAll(summaries);
+        summaries.forEach(summary -> recordTotalChange(null, summary.getTotalScore()));
+
+        // Cached reports of these students may have been built from the stale summaries
+        studentCacheService.evictStudents(studentIds);
+
+        // Keep the persistence context from growing across chunks
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // Moves a student between the per-total counts. The changes of a transaction are applied once, just
+    // before it commits, so each count row is locked only for the end of the transaction and in
+    // ascending total order, which keeps concurrent writers from deadlocking on them.
+    private void recordTotalChange(Long previousTotal, Long newTotal) {
+        if (Objects.equals(previousTotal, newTotal)) {
+            return;
+        }
+
+        TotalCountChanges changes = currentTotalCountChanges();
+        if (previousTotal != null) {
+            changes.add(previousTotal, -1);
+        }
+        if (newTotal != null) {
+            changes.add(newTotal, 1);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changes.apply();
+        }
+    }
+
+    private TotalCountChanges currentTotalCountChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new TotalCountChanges();
+        }
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TotalCountChanges changes) {
+                return changes;
+            }
+        }
+
+        TotalCountChanges changes = new TotalCountChanges();
+        TransactionSynchronizationManager.registerSynchronization(changes);
+        return changes;
+    }
+
+    private class TotalCountChanges implements TransactionSynchronization {
+
+        private final SortedMap<Long, Long> deltas = new TreeMap<>();
+
+        void add(Long total, long delta) {
+            deltas.merge(total, delta, Long::sum);
+        }
+
+        void apply() {
+            deltas.values().removeIf(delta -> delta == 0);
+            totalCountRepository.adjustCounts(deltas);
+            deltas.clear();
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            apply();
+        }
+    }
+
+    private StudentScoreSummary buildSummary(Student student, Collection<Integer> scores) {
+        StudentScoreSummary summary = StudentScoreSummary.builder()
+                .studentId(student.getId())
+                .student(student)
+                .build();
+
+        applyStatistics(summary, scores);
+        return summary;
+    }
+
+    private void applyStatistics(StudentScoreSummary summary, Collection<Integer> scores) {
+        ScoreSummary statistics = new ScoreSummary();
+        for (Integer score : scores) {
+            statistics.add(score);
+        }
+
+        summary.setScoreCount((long) statistics.getCount());
+        summary.setTotalScore((long) statistics.getTotal());
+        summary.setMeanScore(statistics.getMean());
+        summary.setMedianScore(statistics.getMedian());
+        summary.setModeScore(statistics.getMode());
+        summary.setHighestScore(statistics.getMax());
+        summary.setLowestScore(statistics.getMin());
+    }
+}
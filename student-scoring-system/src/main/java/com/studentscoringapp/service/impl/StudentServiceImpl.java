@@ -1,5 +1,6 @@
 package com.studentscoringapp.service.impl;
 
+import com.studentscoringapp.config.CacheConfig;
 import com.studentscoringapp.dto.StudentRequestDto;
 import com.studentscoringapp.dto.StudentResponseDto;
 import com.studentscoringapp.dto.PagedResponse;
@@ -9,30 +10,43 @@ import com.studentscoringapp.exception.ResourceNotFoundException;
 import com.studentscoringapp.exception.ValidationException;
 import com.studentscoringapp.repository.StudentRepository;
 import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.projection.SubjectScoreRow;
+import com.studentscoringapp.service.CountMode;
+import com.studentscoringapp.service.StudentCacheService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
 import com.studentscoringapp.service.StudentService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Slf4j
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
     private final ScoreRepository scoreRepository;
+    private final StudentScoreSummaryService studentScoreSummaryService;
+    private final StudentPageLoader studentPageLoader;
+    private final StudentCacheService studentCacheService;
 
     @Override
     @Transactional
     public StudentResponseDto createStudent(StudentRequestDto studentRequestDto) {
-        log.info("Creating new student: {} {}", studentRequestDto.getFirstName(), studentRequestDto.getLastName());
+        log.debug("Creating new student: {} {}", studentRequestDto.getFirstName(), studentRequestDto.getLastName());
 
         // Validate email uniqueness
         if (studentRequestDto.getEmail() != null &&
@@ -72,25 +86,31 @@ public class StudentServiceImpl implements StudentService {
             scoreRepository.saveAll(scores);
         }
 
-        log.info("Student created successfully with ID: {}", savedStudent.getId());
-        return convertToResponseDto(savedStudent);
+        studentScoreSummaryService.createSummary(savedStudent, studentRequestDto.getSubjects() != null ?
+                studentRequestDto.getSubjects().values() : Collections.emptyList());
+
+        log.debug("Student created successfully with ID: {}", savedStudent.getId());
+        // The scores just written are the requested ones; no need to read them back
+        return convertToResponseDto(savedStudent, studentRequestDto.getSubjects() != null ?
+                new HashMap<>(studentRequestDto.getSubjects()) : new HashMap<>());
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id")
     public StudentResponseDto getStudentById(Long id) {
-        log.info("Fetching student with ID: {}", id);
+        log.debug("Fetching student with ID: {}", id);
 
-        Student student = studentRepository.findById(id)
+        StudentRow student = studentRepository.findRowById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + id));
 
-        return convertToResponseDto(student);
+        return convertToResponseDto(student, toSubjectScores(scoreRepository.findRowsByStudentId(id)));
     }
 
     @Override
     @Transactional
     public StudentResponseDto updateStudent(Long id, StudentRequestDto studentRequestDto) {
-        log.info("Updating student with ID: {}", id);
+        log.debug("Updating student with ID: {}", id);
 
         Student existingStudent = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + id));
@@ -119,70 +139,113 @@ public class StudentServiceImpl implements StudentService {
         existingStudent.setStudentId(studentRequestDto.getStudentId());
 
         Student updatedStudent = studentRepository.save(existingStudent);
+        studentCacheService.evictStudent(id);
 
         // Update scores
-        if (studentRequestDto.getSubjects() != null) {
-            // Delete existing scores
-            List<Score> existingScores = scoreRepository.findByStudentId(id);
-            scoreRepository.deleteAll(existingScores);
+        Map<String, Integer> subjects = studentRequestDto.getSubjects();
+        if (subjects != null && replaceScores(id, subjects)) {
+            studentScoreSummaryService.refreshSummary(updatedStudent, subjects.values());
+        }
 
-            // Create new scores
-            List<Score> newScores = studentRequestDto.getSubjects().entrySet().stream()
-                    .map(entry -> Score.builder()
-                            .student(updatedStudent)
-                            .subject(entry.getKey())
-                            .score(entry.getValue())
-                            .build())
-                    .collect(Collectors.toList());
+        log.debug("Student updated successfully with ID: {}", id);
+        return subjects != null ?
+                convertToResponseDto(updatedStudent, new HashMap<>(subjects)) :
+                convertToResponseDto(updatedStudent);
+    }
+
+    /**
+     * Makes the stored scores of a student match the given subjects with one upsert and one delete,
+     * so concurrent updates of the same student cannot leave a subject stored twice. Unchanged
+     * rows are left untouched.
+     *
+     * @return whether any score was inserted, updated or deleted
+     */
+    private boolean replaceScores(Long id, Map<String, Integer> subjects) {
+        int written = scoreRepository.upsertScores(id, subjects);
+        int deleted = subjects.isEmpty() ?
+                scoreRepository.deleteByStudentId(id) :
+                scoreRepository.deleteByStudentIdAndSubjectNotIn(id, subjects.keySet());
+        return written > 0 || deleted > 0;
+    }
 
-            scoreRepository.saveAll(newScores);
+    @Override
+    @Transactional
+    public void updateScore(Long id, String subject, Integer score) {
+        updateScores(id, Collections.singletonMap(subject, score));
+    }
+
+    @Override
+    @Transactional
+    public void updateScores(Long id, Map<String, Integer> subjects) {
+        log.debug("Updating scores of student with ID: {} for subjects: {}", id, subjects.keySet());
+
+        validateSubjectScores(subjects);
+
+        // Targeted updates; neither the student nor its scores are loaded
+        LocalDateTime now = LocalDateTime.now();
+        boolean changed = false;
+        for (Map.Entry<String, Integer> entry : subjects.entrySet()) {
+            if (scoreRepository.updateScore(id, entry.getKey(), entry.getValue(), now) > 0) {
+                changed = true;
+            } else if (!scoreRepository.existsByStudentIdAndSubject(id, entry.getKey())) {
+                throw studentRepository.existsById(id) ?
+                        new ResourceNotFoundException(
+                                String.format("Subject '%s' not found for student with ID: %d", entry.getKey(), id)) :
+                        new ResourceNotFoundException("Student not found with ID: " + id);
+            }
         }
 
-        log.info("Student updated successfully with ID: {}", id);
-        return convertToResponseDto(updatedStudent);
+        if (changed) {
+            studentScoreSummaryService.refreshSummary(id);
+            studentCacheService.evictStudent(id);
+        }
     }
 
     @Override
     @Transactional
     public void deleteStudent(Long id) {
-        log.info("Deleting student with ID: {}", id);
+        log.debug("Deleting student with ID: {}", id);
 
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + id));
 
+        studentScoreSummaryService.deleteSummary(id);
         studentRepository.delete(student);
-        log.info("Student deleted successfully with ID: {}", id);
+        studentCacheService.evictStudent(id);
+        log.debug("Student deleted successfully with ID: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<StudentResponseDto> getAllStudents(Pageable pageable) {
-        log.info("Fetching all students with pagination: page={}, size={}",
-                pageable.getPageNumber(), pageable.getPageSize());
-
-        Page<Student> studentPage = studentRepository.findAll(pageable);
-
-        return createPagedResponse(studentPage);
+        return getStudents(null, null, null, pageable, null, CountMode.EXACT);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<StudentResponseDto> getStudentsWithFilters(String firstName, String lastName,
                                                                     String email, Pageable pageable) {
-        log.info("Fetching students with filters: firstName={}, lastName={}, email={}",
-                firstName, lastName, email);
-
-        Page<Student> studentPage = studentRepository.findWithFilters(firstName, lastName, email, pageable);
+        return getStudents(firstName, lastName, email, pageable, null, CountMode.EXACT);
+    }
 
-        return createPagedResponse(studentPage);
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<StudentResponseDto> getStudents(String firstName, String lastName, String email,
+                                                         Pageable pageable, String cursor, CountMode countMode) {
+        log.debug("Fetching students: firstName={}, lastName={}, email={}, page={}, size={}, cursor={}, count={}",
+                firstName, lastName, email, pageable.getPageNumber(), pageable.getPageSize(),
+                cursor != null, countMode);
+
+        return studentPageLoader.loadPage(firstName, lastName, email, pageable, cursor, countMode,
+                this::convertToResponseDtos);
     }
 
     private void validateSubjectScores(Map<String, Integer> subjects) {
         if (subjects != null) {
             subjects.forEach((subject, score) -> {
-                if (score < 0 || score > 100) {
+                if (score == null || score < 0 || score > 100) {
                     throw new ValidationException(
-                            String.format("Score for subject '%s' must be between 0 and 100. Got: %d",
+                            String.format("Score for subject '%s' must be between 0 and 100. Got: %s",
                                     subject, score));
                 }
             });
@@ -190,10 +253,10 @@ public class StudentServiceImpl implements StudentService {
     }
 
     private StudentResponseDto convertToResponseDto(Student student) {
-        Map<String, Integer> subjectScores = scoreRepository.findByStudentId(student.getId())
-                .stream()
-                .collect(Collectors.toMap(Score::getSubject, Score::getScore));
+        return convertToResponseDto(student, toSubjectScores(scoreRepository.findRowsByStudentId(student.getId())));
+    }
 
+    private StudentResponseDto convertToResponseDto(Student student, Map<String, Integer> subjectScores) {
         return StudentResponseDto.builder()
                 .id(student.getId())
                 .firstName(student.getFirstName())
@@ -206,21 +269,42 @@ public class StudentServiceImpl implements StudentService {
                 .build();
     }
 
-    private PagedResponse<StudentResponseDto> createPagedResponse(Page<Student> studentPage) {
-        List<StudentResponseDto> content = studentPage.getContent().stream()
-                .map(this::convertToResponseDto)
+    private StudentResponseDto convertToResponseDto(StudentRow student, Map<String, Integer> subjectScores) {
+        return StudentResponseDto.builder()
+                .id(student.id())
+                .firstName(student.firstName())
+                .lastName(student.lastName())
+                .email(student.email())
+                .studentId(student.studentId())
+                .subjects(subjectScores)
+                .createdAt(student.createdAt())
+                .updatedAt(student.updatedAt())
+                .build();
+    }
+
+    private List<StudentResponseDto> convertToResponseDtos(List<StudentRow> students) {
+        // Load the scores for the whole page in one query and group them per student
+        Map<Long, Map<String, Integer>> scoresByStudentId = new HashMap<>();
+        if (!students.isEmpty()) {
+            for (SubjectScoreRow score : scoreRepository.findRowsByStudentIdIn(students.stream()
+                    .map(StudentRow::id)
+                    .collect(Collectors.toList()))) {
+                scoresByStudentId.computeIfAbsent(score.studentId(), studentId -> new HashMap<>())
+                        .put(score.subject(), score.score());
+            }
+        }
+
+        return students.stream()
+                .map(student -> convertToResponseDto(student,
+                        scoresByStudentId.getOrDefault(student.id(), Collections.emptyMap())))
                 .collect(Collectors.toList());
+    }
 
-        return PagedResponse.<StudentResponseDto>builder()
-                .content(content)
-                .page(studentPage.getNumber())
-                .size(studentPage.getSize())
-                .totalElements(studentPage.getTotalElements())
-                .totalPages(studentPage.getTotalPages())
-                .first(studentPage.isFirst())
-                .last(studentPage.isLast())
-                .hasNext(studentPage.hasNext())
-                .hasPrevious(studentPage.hasPrevious())
-                .build();
+    private Map<String, Integer> toSubjectScores(List<SubjectScoreRow> scores) {
+        Map<String, Integer> subjectScores = new HashMap<>();
+        for (SubjectScoreRow score : scores) {
+            subjectScores.put(score.subject(), score.score());
+        }
+        return subjectScores;
     }
-}
\ No newline at end of file
+}
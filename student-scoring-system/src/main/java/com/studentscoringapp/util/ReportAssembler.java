@@ -0,0 +1,72 @@
+package com.studentscoringapp.util;
+
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.repository.projection.ScoreStatisticsView;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.repository.projection.SubjectScoreRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds {@link ReportDto}s from a student and their scores.
+ */
+public class ReportAssembler {
+
+    private ReportAssembler() {
+    }
+
+    public static ReportDto createReportDto(StudentRow student, List<SubjectScoreRow> scores,
+                                            ScoreStatisticsView statistics) {
+        Map<String, Integer> subjectScores = new HashMap<>();
+        for (SubjectScoreRow score : scores) {
+            subjectScores.put(score.subject(), score.score());
+        }
+
+        // Fall back to calculating the statistics when none were precomputed for the student
+        if (statistics == null) {
+            ScoreSummary summary = new ScoreSummary();
+            for (SubjectScoreRow score : scores) {
+                summary.add(score.score());
+            }
+            return createReportDto(student.id(), student.firstName(), student.lastName(), student.email(),
+                    subjectScores, summary);
+        }
+
+        return ReportDto.builder()
+                .studentId(student.id())
+                .firstName(student.firstName())
+                .lastName(student.lastName())
+                .email(student.email())
+                .subjectScores(subjectScores)
+                .meanScore(statistics.getMeanScore())
+                .medianScore(statistics.getMedianScore())
+                .modeScore(statistics.getModeScore())
+                .totalScore(statistics.getTotalScore().intValue())
+                .highestScore(statistics.getHighestScore())
+                .lowestScore(statistics.getLowestScore())
+                .build();
+    }
+
+    public static ReportDto createReportDto(StudentRow student, List<SubjectScoreRow> scores) {
+        return createReportDto(student, scores, null);
+    }
+
+    public static ReportDto createReportDto(Long studentId, String firstName, String lastName, String email,
+                                            Map<String, Integer> subjectScores, ScoreSummary summary) {
+        return ReportDto.builder()
+                .studentId(studentId)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .subjectScores(subjectScores)
+                .meanScore(summary.getMean())
+                .medianScore(summary.getMedian())
+                .modeScore(summary.getMode())
+                .totalScore(summary.getTotal())
+                .highestScore(summary.getMax())
+                .lowestScore(summary.getMin())
+                .build();
+    }
+}
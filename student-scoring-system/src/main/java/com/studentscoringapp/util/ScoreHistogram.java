@@ -0,0 +1,137 @@
+package com.studentscoringapp.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cohort statistics computed from the number of occurrences of each score.
+ *
+ * <p>Scores are bounded to 0..100, so a whole cohort reduces to 101 counts and every statistic is
+ * derived from them without the individual scores. Quantiles interpolate linearly between the two
+ * nearest ranks, like SQL {@code PERCENTILE_CONT}, so the median matches
+ * {@link StatisticsUtil#calculateMedian(List)}. Ties for the mode resolve to the lowest score, like
+ * SQL {@code MODE()}.</p>
+ */
+public class ScoreHistogram {
+
+    private static final int BUCKETS = ScoreSummary.MAX_SCORE - ScoreSummary.MIN_SCORE + 1;
+
+    private final long[] counts = new long[BUCKETS];
+
+    private long count;
+    private long total;
+
+    public void add(int score, long frequency) {
+        if (score < ScoreSummary.MIN_SCORE || score > ScoreSummary.MAX_SCORE) {
+            throw new IllegalArgumentException(
+                    String.format("Score must be between %d and %d. Got: %d",
+                            ScoreSummary.MIN_SCORE, ScoreSummary.MAX_SCORE, score));
+        }
+
+        counts[score] += frequency;
+        count += frequency;
+        total += score * frequency;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getMean() {
+        if (count == 0) {
+            return 0.0;
+        }
+        return (double) total / count;
+    }
+
+    public double getMedian() {
+        return getQuantile(0.5);
+    }
+
+    public double getQuantile(double fraction) {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1. Got: " + fraction);
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+
+        double position = fraction * (count - 1);
+        long lower = (long) Math.floor(position);
+        int lowerValue = valueAt(lower);
+        if (position == lower) {
+            return lowerValue;
+        }
+        return lowerValue + (position - lower) * (valueAt(lower + 1) - lowerValue);
+    }
+
+    public int getMode() {
+        int mode = 0;
+        for (int score = 1; score < BUCKETS; score++) {
+            if (counts[score] > counts[mode]) {
+                mode = score;
+            }
+        }
+        return mode;
+    }
+
+    // Population standard deviation, like SQL STDDEV_POP
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0.0;
+        }
+
+        double mean = getMean();
+        double squaredDeviations = 0.0;
+        for (int score = 0; score < BUCKETS; score++) {
+            if (counts[score] > 0) {
+                squaredDeviations += counts[score] * (score - mean) * (score - mean);
+            }
+        }
+        return Math.sqrt(squaredDeviations / count);
+    }
+
+    public int getMax() {
+        for (int score = BUCKETS - 1; score >= 0; score--) {
+            if (counts[score] > 0) {
+                return score;
+            }
+        }
+        return 0;
+    }
+
+    public int getMin() {
+        for (int score = 0; score < BUCKETS; score++) {
+            if (counts[score] > 0) {
+                return score;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of occurrences of every score from 0 to 100, indexed by score.
+     */
+    public List<Long> getCounts() {
+        List<Long> histogram = new ArrayList<>(BUCKETS);
+        for (long frequency : counts) {
+            histogram.add(frequency);
+        }
+        return histogram;
+    }
+
+    private int valueAt(long index) {
+        long seen = 0;
+        for (int score = 0; score < BUCKETS; score++) {
+            seen += counts[score];
+            if (seen > index) {
+                return score;
+            }
+        }
+        throw new IllegalStateException("Index out of range: " + index);
+    }
+}
@@ -0,0 +1,167 @@
+package com.studentscoringapp.util;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass accumulator for the report statistics of a set of scores.
+ *
+ * <p>Scores are bounded to 0..100, so values are counted into a 101-bucket histogram
+ * instead of being boxed and sorted. Every statistic matches the corresponding
+ * {@link StatisticsUtil} method, including the tie-breaking of
+ * {@link StatisticsUtil#calculateMode(java.util.List)}.</p>
+ */
+public class ScoreSummary {
+
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+
+    private static final int BUCKETS = MAX_SCORE - MIN_SCORE + 1;
+
+    private final int[] counts = new int[BUCKETS];
+    // Position of the first occurrence of each score, used to reproduce calculateMode's tie-breaking
+    private final int[] firstSeen = new int[BUCKETS];
+
+    private int count;
+    private int distinct;
+    private int total;
+    private int max;
+    private int min;
+    private int last;
+
+    public static ScoreSummary of(int[] scores) {
+        return of(scores, scores.length);
+    }
+
+    public static ScoreSummary of(int[] scores, int length) {
+        ScoreSummary summary = new ScoreSummary();
+        for (int i = 0; i < length; i++) {
+            summary.add(scores[i]);
+        }
+        return summary;
+    }
+
+    public void add(int score) {
+        if (score < MIN_SCORE || score > MAX_SCORE) {
+            throw new IllegalArgumentException(
+                    String.format("Score must be between %d and %d. Got: %d", MIN_SCORE, MAX_SCORE, score));
+        }
+
+        if (counts[score]++ == 0) {
+            firstSeen[score] = count;
+            distinct++;
+        }
+
+        if (count == 0 || score > max) {
+            max = score;
+        }
+        if (count == 0 || score < min) {
+            min = score;
+        }
+
+        total += score;
+        last = score;
+        count++;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        distinct = 0;
+        total = 0;
+        max = 0;
+        min = 0;
+        last = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        if (count == 0) {
+            return 0.0;
+        }
+        return (double) total / count;
+    }
+
+    public double getMedian() {
+        if (count == 0) {
+            return 0.0;
+        }
+
+        if (count % 2 == 0) {
+            return (valueAt(count / 2 - 1) + valueAt(count / 2)) / 2.0;
+        }
+        return valueAt(count / 2);
+    }
+
+    /**
+     * Returns the most frequent score.
+     *
+     * <p>{@code calculateMode} groups into a {@link java.util.HashMap} and keeps the first maximum
+     * it encounters while iterating, so ties resolve in hash-table order: by score modulo the
+     * table capacity, then most recently inserted first within a bucket. The capacity is the one
+     * the map has grown to by the time the last score is grouped.</p>
+     */
+    public int getMode() {
+        if (count == 0) {
+            return 0;
+        }
+
+        // The resize check runs before each insertion, so the final capacity is driven by the
+        // number of distinct scores seen before the last one
+        int distinctBeforeLast = firstSeen[last] == count - 1 ? distinct - 1 : distinct;
+        int capacity = 16;
+        while (distinctBeforeLast > capacity * 3 / 4) {
+            capacity <<= 1;
+        }
+        int mask = capacity - 1;
+
+        int mode = -1;
+        int modeCount = 0;
+        for (int score = 0; score < BUCKETS; score++) {
+            int frequency = counts[score];
+            if (frequency == 0 || frequency < modeCount) {
+                continue;
+            }
+            if (frequency > modeCount || precedes(score, mode, mask)) {
+                mode = score;
+                modeCount = frequency;
+            }
+        }
+        return mode;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    private boolean precedes(int score, int other, int mask) {
+        int bucket = score & mask;
+        int otherBucket = other & mask;
+        if (bucket != otherBucket) {
+            return bucket < otherBucket;
+        }
+        // New keys are linked at the head of their bucket
+        return firstSeen[score] > firstSeen[other];
+    }
+
+    private int valueAt(int index) {
+        int seen = 0;
+        for (int score = 0; score < BUCKETS; score++) {
+            seen += counts[score];
+            if (seen > index) {
+                return score;
+            }
+        }
+        throw new IllegalStateException("Index out of range: " + index);
+    }
+}
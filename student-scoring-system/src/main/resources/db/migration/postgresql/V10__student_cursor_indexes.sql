@@ -0,0 +1,10 @@
+-- Indexes for cursor paging of the student listings (see StudentCursor). A cursor page seeks to
+-- (column, id) past the last student of the previous page; scanned backwards the same indexes serve
+-- descending pages, with nulls first as in PostgreSQL's default descending order.
+
+CREATE INDEX IF NOT EXISTS idx_students_first_name_id ON students (first_name, id);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_id ON students (last_name, id);
+CREATE INDEX IF NOT EXISTS idx_students_email_id ON students (email, id);
+CREATE INDEX IF NOT EXISTS idx_students_student_id_id ON students (student_id, id);
+CREATE INDEX IF NOT EXISTS idx_students_created_at_id ON students (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_students_updated_at_id ON students (updated_at, id);
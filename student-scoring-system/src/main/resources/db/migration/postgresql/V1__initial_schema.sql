@@ -0,0 +1,21 @@
+-- Schema as originally created by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version, so this script only runs on empty databases.
+
+CREATE TABLE IF NOT EXISTS students (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) UNIQUE,
+    student_id VARCHAR(255) UNIQUE,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS scores (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_id BIGINT NOT NULL REFERENCES students (id),
+    subject VARCHAR(255) NOT NULL,
+    score INTEGER NOT NULL CHECK (score >= 0 AND score <= 100),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
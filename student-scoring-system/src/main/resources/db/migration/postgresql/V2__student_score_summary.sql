@@ -0,0 +1,14 @@
+-- Per-student report statistics maintained on every score write.
+-- Backfill existing students with --app.summaries.rebuild-on-startup=true.
+
+CREATE TABLE IF NOT EXISTS student_score_summary (
+    student_id BIGINT PRIMARY KEY REFERENCES students (id) ON DELETE CASCADE,
+    score_count BIGINT NOT NULL,
+    total_score BIGINT NOT NULL,
+    mean_score DOUBLE PRECISION NOT NULL,
+    median_score DOUBLE PRECISION NOT NULL,
+    mode_score INTEGER NOT NULL,
+    highest_score INTEGER NOT NULL,
+    lowest_score INTEGER NOT NULL,
+    updated_at TIMESTAMP(6)
+);
@@ -0,0 +1,13 @@
+-- Student and Score IDs come from sequences with Hibernate's pooled optimizer (allocationSize = 50),
+-- so inserts can be batched. Each sequence value is the upper end of a block of 50 IDs, so the
+-- sequences are positioned to hand out blocks that start after the highest existing ID.
+
+CREATE SEQUENCE IF NOT EXISTS students_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE students_seq INCREMENT BY 50;
+SELECT setval('students_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM students), false);
+ALTER TABLE students ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS scores_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE scores_seq INCREMENT BY 50;
+SELECT setval('scores_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM scores), false);
+ALTER TABLE scores ALTER COLUMN id DROP IDENTITY IF EXISTS;
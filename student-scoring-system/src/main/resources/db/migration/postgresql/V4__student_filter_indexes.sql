@@ -0,0 +1,15 @@
+-- Indexes for the student filters (see StudentSpecifications). The filters compare lower(column),
+-- so the indexes are built on the same expressions.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring matches: LIKE '%value%'
+CREATE INDEX IF NOT EXISTS idx_students_first_name_trgm ON students USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_trgm ON students USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_trgm ON students USING gin (lower(email) gin_trgm_ops);
+
+-- Prefix matches: LIKE 'value%', and exact email matches: = 'value'
+-- (text_pattern_ops makes the btree usable for LIKE regardless of the database collation)
+CREATE INDEX IF NOT EXISTS idx_students_first_name_prefix ON students (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_prefix ON students (lower(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_prefix ON students (lower(email) text_pattern_ops);
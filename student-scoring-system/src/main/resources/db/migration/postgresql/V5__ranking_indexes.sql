@@ -0,0 +1,8 @@
+-- Indexes for the ranking endpoints (see RankingServiceImpl). Both are read in ranking order, so a
+-- page of the ranking only touches the rows before it.
+
+-- Class ranking by total score, and the rank and percentile range counts of one student
+CREATE INDEX IF NOT EXISTS idx_student_score_summary_total_rank ON student_score_summary (total_score DESC, student_id);
+
+-- Top students per subject
+CREATE INDEX IF NOT EXISTS idx_scores_subject_score ON scores (subject, score DESC, student_id);
@@ -0,0 +1,44 @@
+-- One score per student and subject. The unique index also serves every lookup by student_id
+-- (scores of a student, of a page of students, and of one subject of a student) and is the
+-- conflict target for score upserts. Lookups by subject alone use idx_scores_subject_score (V5).
+
+-- Earlier versions could store a subject twice for a student; keep the most recent row
+CREATE TEMPORARY TABLE deduplicated_students ON COMMIT DROP AS
+SELECT DISTINCT s.student_id
+FROM scores s
+JOIN scores newer
+  ON newer.student_id = s.student_id
+ AND newer.subject = s.subject
+ AND newer.id > s.id;
+
+DELETE FROM scores s
+USING scores newer
+WHERE newer.student_id = s.student_id
+  AND newer.subject = s.subject
+  AND newer.id > s.id;
+
+-- The summaries of those students still count the removed rows. Recompute them the way the
+-- database statistics strategy does (mode ties resolve to the lowest score).
+UPDATE student_score_summary ss
+SET score_count = agg.score_count,
+    total_score = agg.total_score,
+    mean_score = agg.mean_score,
+    median_score = agg.median_score,
+    mode_score = agg.mode_score,
+    highest_score = agg.highest_score,
+    lowest_score = agg.lowest_score,
+    updated_at = LOCALTIMESTAMP
+FROM (SELECT s.student_id,
+             COUNT(*) AS score_count,
+             SUM(s.score) AS total_score,
+             AVG(CAST(s.score AS DOUBLE PRECISION)) AS mean_score,
+             PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY s.score) AS median_score,
+             MODE() WITHIN GROUP (ORDER BY s.score) AS mode_score,
+             MAX(s.score) AS highest_score,
+             MIN(s.score) AS lowest_score
+      FROM scores s
+      JOIN deduplicated_students d ON d.student_id = s.student_id
+      GROUP BY s.student_id) agg
+WHERE ss.student_id = agg.student_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_scores_student_subject ON scores (student_id, subject);
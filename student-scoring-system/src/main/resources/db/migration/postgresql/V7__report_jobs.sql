@@ -0,0 +1,24 @@
+-- Background report runs started with POST /api/v1/reports/jobs.
+-- Jobs left QUEUED or RUNNING by a shutdown are resumed (or failed) on the next startup.
+
+CREATE SEQUENCE IF NOT EXISTS report_jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id BIGINT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    first_name_filter VARCHAR(255),
+    last_name_filter VARCHAR(255),
+    email_filter VARCHAR(255),
+    total_students BIGINT,
+    processed_students BIGINT NOT NULL DEFAULT 0,
+    result_file VARCHAR(500),
+    result_size BIGINT,
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    started_at TIMESTAMP(6),
+    completed_at TIMESTAMP(6)
+);
+
+-- Startup recovery looks up the unfinished jobs
+CREATE INDEX IF NOT EXISTS idx_report_jobs_status ON report_jobs (status);
@@ -0,0 +1,14 @@
+-- Number of students per total score, maintained with student_score_summary. Ranks and
+-- percentiles are sums over this table, which has one row per distinct total however many
+-- students there are.
+
+CREATE TABLE IF NOT EXISTS student_total_counts (
+    total_score BIGINT PRIMARY KEY,
+    student_count BIGINT NOT NULL
+);
+
+INSERT INTO student_total_counts (total_score, student_count)
+SELECT total_score, COUNT(*)
+FROM student_score_summary
+GROUP BY total_score
+ON CONFLICT (total_score) DO UPDATE SET student_count = EXCLUDED.student_count;
@@ -0,0 +1,8 @@
+-- Report jobs record the instance that queued or runs them and that instance's last heartbeat, so an
+-- instance only takes over the unfinished jobs of instances that stopped.
+
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS owner VARCHAR(100);
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP(6);
+
+-- The result cleanup looks up the completed jobs past their retention
+CREATE INDEX IF NOT EXISTS idx_report_jobs_completed_at ON report_jobs (completed_at);
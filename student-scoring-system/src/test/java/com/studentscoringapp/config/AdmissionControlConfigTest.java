@@ -0,0 +1,55 @@
+package com.studentscoringapp.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlConfigTest {
+
+    @Test
+    void derivesTheLimitFromThePoolSizeMinusReservedConnections() {
+        assertThat(AdmissionControlConfig.requestLimit(0, 10, 3)).isEqualTo(7);
+    }
+
+    @Test
+    void acceptsAnExplicitLimitThatFitsBesideTheReservations() {
+        assertThat(AdmissionControlConfig.requestLimit(4, 10, 3)).isEqualTo(4);
+        assertThat(AdmissionControlConfig.requestLimit(7, 10, 3)).isEqualTo(7);
+    }
+
+    @Test
+    void rejectsALimitThatOvercommitsThePool() {
+        assertThatThrownBy(() -> AdmissionControlConfig.requestLimit(8, 10, 3))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maximum-pool-size (10)");
+        // Nothing left for requests once the reservations take the whole pool
+        assertThatThrownBy(() -> AdmissionControlConfig.requestLimit(0, 3, 3))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shippedDefaultsLeaveARealisticRequestLimit() throws Exception {
+        // The test resources replace application.properties on the classpath, so read the shipped file
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Paths.get("src/main/resources/application.properties"))) {
+            properties.load(reader);
+        }
+
+        int reserved = AdmissionControlConfig.reservedConnections(
+                Boolean.parseBoolean(properties.getProperty("app.reports.parallel.enabled")),
+                Integer.parseInt(properties.getProperty("app.reports.parallel.threads")),
+                Integer.parseInt(properties.getProperty("app.reports.jobs.threads")));
+        int limit = AdmissionControlConfig.requestLimit(
+                Integer.parseInt(properties.getProperty("app.admission.max-concurrent-requests")),
+                Integer.parseInt(properties.getProperty("spring.datasource.hikari.maximum-pool-size")),
+                reserved);
+
+        assertThat(limit).isBetween(10, 20);
+    }
+}
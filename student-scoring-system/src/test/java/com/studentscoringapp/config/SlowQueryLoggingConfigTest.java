@@ -0,0 +1,43 @@
+package com.studentscoringapp.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.sql.slow-query.enabled=true",
+        "app.sql.slow-query.threshold=0ms",
+        "app.sql.slow-query.sample-rate=1.0"
+})
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLoggingConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Statements over the threshold are logged with their bind parameters")
+    void testLogsSlowQueryWithParameters(CapturedOutput output) {
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+
+        jdbcTemplate.queryForList("SELECT id FROM students WHERE email = ?", Long.class, "slow@example.com");
+
+        assertThat(output.getOut())
+                .contains("Slow query:")
+                .contains("SELECT id FROM students WHERE email = ?")
+                .contains("slow@example.com");
+    }
+}
@@ -0,0 +1,121 @@
+package com.studentscoringapp.config;
+
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.StudentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatementMetricsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, 3).forEach(i -> studentService.createStudent(StudentRequestDto.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email("metrics" + i + "@example.com")
+                .studentId("MET00" + i)
+                .subjects(Map.of("Mathematics", 70 + i))
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Statements per request are recorded by endpoint and page size, with service and repository timers")
+    void testRecordsStatementsPerRequest() throws Exception {
+        // The application context is shared with other tests, so only the increase is checked
+        long requestsBefore = statements().count();
+        double statementsBefore = statements().totalAmount();
+        long serviceCallsBefore = serviceTimer().count();
+
+        mockMvc.perform(get("/api/v1/reports/all").param("size", "15"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/reports/all").param("size", "15"))
+                .andExpect(status().isOk());
+
+        assertEquals(2, statements().count() - requestsBefore);
+        // The page of students and their scores; the page is short, so no count query runs
+        assertEquals(4.0, statements().totalAmount() - statementsBefore);
+        assertEquals(2, serviceTimer().count() - serviceCallsBefore);
+
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "ScoreRepository")
+                .tag("method", "findRowsByStudentIdIn")
+                .timer());
+        assertNotNull(meterRegistry.find("app.reports.assembly").tag("strategy", "jvm").timer());
+    }
+
+    @Test
+    @DisplayName("Page sizes are bucketed")
+    void testPageSizeBuckets() {
+        assertEquals("none", SqlStatementMetricsFilter.pageSize(null));
+        assertEquals("10", SqlStatementMetricsFilter.pageSize("1"));
+        assertEquals("50", SqlStatementMetricsFilter.pageSize("50"));
+        assertEquals("more", SqlStatementMetricsFilter.pageSize("5000"));
+        assertEquals("invalid", SqlStatementMetricsFilter.pageSize("ten"));
+    }
+
+    private DistributionSummary statements() {
+        return DistributionSummary.builder(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/reports/all")
+                .tag("method", "GET")
+                .tag("page.size", "20")
+                .register(meterRegistry);
+    }
+
+    private Timer serviceTimer() {
+        return meterRegistry.timer("app.service",
+                "class", "com.studentscoringapp.service.impl.ReportServiceImpl",
+                "exception", "none",
+                "method", "generateReports");
+    }
+}
@@ -0,0 +1,147 @@
+package com.studentscoringapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The export streams on another thread in its own transaction, so the data is committed and removed afterwards
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportControllerExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        studentIds.add(studentService.createStudent(studentRequest("ST001", "Ada, Jr.", Map.of(
+                "Mathematics", 85, "English", 90, "Science", 78, "History", 90, "Geography", 88))).getId());
+        studentIds.add(studentService.createStudent(studentRequest("ST002", "Bob", Map.of())).getId());
+        studentIds.add(studentService.createStudent(studentRequest("ST003", "Cy", Map.of("Mathematics", 40))).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("NDJSON export streams the same report as the single report endpoint for every student")
+    void testNdjsonExport() throws Exception {
+        String body = export("ndjson", "application/x-ndjson");
+
+        String[] lines = body.split("\n");
+        assertEquals(studentIds.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(reportService.generateStudentReport(studentIds.get(i)),
+                    objectMapper.readValue(lines[i], ReportDto.class));
+        }
+    }
+
+    @Test
+    @DisplayName("CSV export writes a header and one quoted row per student")
+    void testCsvExport() throws Exception {
+        String body = export("csv", "text/csv");
+
+        String[] lines = body.split("\r\n");
+        assertEquals(studentIds.size() + 1, lines.length);
+        assertEquals("studentId,firstName,lastName,email,subjectScores,meanScore,medianScore,modeScore," +
+                "totalScore,highestScore,lowestScore", lines[0]);
+        assertTrue(lines[1].startsWith(studentIds.get(0) + ",\"Ada, Jr.\",Last,st001@example.com,"), lines[1]);
+        assertTrue(lines[1].endsWith(",86.2,88.0,90,431,90,78"), lines[1]);
+        assertEquals(studentIds.get(1) + ",Bob,Last,st002@example.com,,0.0,0.0,0,0,0,0", lines[2]);
+    }
+
+    @Test
+    @DisplayName("CSV export escapes separators inside subject names")
+    void testCsvExportEscapesSubjectNames() throws Exception {
+        Long id = studentService.createStudent(studentRequest("ST004", "Dee",
+                Map.of("Art;Design", 70, "x=y\\z", 60))).getId();
+
+        String body = export("csv", "text/csv");
+
+        String row = body.lines().filter(line -> line.startsWith(id + ",")).findFirst().orElseThrow();
+        assertTrue(row.contains(",Art\\;Design=70;x\\=y\\\\z=60,") || row.contains(",x\\=y\\\\z=60;Art\\;Design=70,"), row);
+    }
+
+    @Test
+    @DisplayName("Unknown export format is rejected")
+    void testUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format, String contentType) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/reports/export").param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", contentType))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reports." + format + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private StudentRequestDto studentRequest(String studentId, String firstName, Map<String, Integer> subjects) {
+        return StudentRequestDto.builder()
+                .firstName(firstName)
+                .lastName("Last")
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .subjects(subjects)
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.studentscoringapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.ReportJobDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.entity.ReportJob;
+import com.studentscoringapp.entity.ReportJobStatus;
+import com.studentscoringapp.repository.ReportJobRepository;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.ExportFormat;
+import com.studentscoringapp.service.ReportJobService;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Jobs run on their own workers and transactions, so the data is committed and removed afterwards
+@SpringBootTest(properties = "app.reports.jobs.storage-dir=target/report-jobs-test")
+@AutoConfigureMockMvc
+class ReportControllerJobTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        studentIds.add(studentService.createStudent(studentRequest("JOB001", "Smith", Map.of(
+                "Mathematics", 85, "English", 90))).getId());
+        studentIds.add(studentService.createStudent(studentRequest("JOB002", "Jones", Map.of())).getId());
+        studentIds.add(studentService.createStudent(studentRequest("JOB003", "Smithers", Map.of(
+                "Mathematics", 40))).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobRepository.deleteAllInBatch();
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("A report job over a filter completes and its compressed result holds the matching reports")
+    void testReportJob() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/reports/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lastName\":\"Smith*\",\"format\":\"ndjson\"}"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        ReportJobDto created = objectMapper.readValue(body, ReportJobDto.class);
+        assertEquals(ReportJobStatus.QUEUED, created.getStatus());
+
+        ReportJobDto job = awaitFinished(created.getId());
+        assertEquals(ReportJobStatus.COMPLETED, job.getStatus(), job.getErrorMessage());
+        assertEquals(2L, job.getTotalStudents());
+        assertEquals(2L, job.getProcessedStudents());
+        assertEquals(100.0, job.getProgressPercent());
+        assertEquals("/api/v1/reports/jobs/" + job.getId() + "/result", job.getResultUrl());
+
+        byte[] result = mockMvc.perform(get(job.getResultUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"report-job-" + job.getId() + ".ndjson.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(job.getResultSize(), result.length);
+
+        String[] lines = gunzip(result).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(reportService.generateStudentReport(studentIds.get(0)),
+                objectMapper.readValue(lines[0], ReportDto.class));
+        assertEquals(reportService.generateStudentReport(studentIds.get(2)),
+                objectMapper.readValue(lines[1], ReportDto.class));
+    }
+
+    @Test
+    @DisplayName("A job left running by a restart is started over")
+    void testRecoversInterruptedJob() throws Exception {
+        ReportJob interrupted = reportJobRepository.save(ReportJob.builder()
+                .status(ReportJobStatus.RUNNING)
+                .format(ExportFormat.CSV)
+                .startedAt(LocalDateTime.now())
+                .build());
+
+        reportJobService.recoverUnfinishedJobs();
+
+        ReportJobDto job = awaitFinished(interrupted.getId());
+        assertEquals(ReportJobStatus.COMPLETED, job.getStatus(), job.getErrorMessage());
+        assertEquals(3L, job.getProcessedStudents());
+    }
+
+    @Test
+    @DisplayName("A job kept alive by another instance is neither taken over nor downloadable")
+    void testLeavesJobOfLiveInstance() throws Exception {
+        ReportJob running = reportJobRepository.save(ReportJob.builder()
+                .status(ReportJobStatus.RUNNING)
+                .format(ExportFormat.CSV)
+                .owner("other-instance")
+                .startedAt(LocalDateTime.now())
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+
+        reportJobService.recoverUnfinishedJobs();
+
+        ReportJob job = reportJobRepository.findById(running.getId()).orElseThrow();
+        assertEquals(ReportJobStatus.RUNNING, job.getStatus());
+        assertEquals("other-instance", job.getOwner());
+
+        mockMvc.perform(get("/api/v1/reports/jobs/{id}/result", running.getId()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Results past their TTL are deleted with leftover files and can no longer be downloaded")
+    void testDeletesExpiredResults() throws Exception {
+        Path storageDir = Paths.get("target/report-jobs-test");
+        Path result = Files.writeString(storageDir.resolve("report-job-expired.csv.gz"), "expired");
+        Path leftover = Files.writeString(storageDir.resolve("report-job-crashed.csv.gz.part"), "partial");
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(8)));
+        Files.setLastModifiedTime(result, old);
+        Files.setLastModifiedTime(leftover, old);
+
+        ReportJob expired = reportJobRepository.save(ReportJob.builder()
+                .status(ReportJobStatus.COMPLETED)
+                .format(ExportFormat.CSV)
+                .resultFile(result.toAbsolutePath().toString())
+                .resultSize(7L)
+                .completedAt(LocalDateTime.now().minusDays(8))
+                .build());
+
+        reportJobService.deleteExpiredResults();
+
+        assertFalse(Files.exists(result));
+        assertFalse(Files.exists(leftover));
+        mockMvc.perform(get("/api/v1/reports/jobs/{id}/result", expired.getId()))
+                .andExpect(status().isNotFound());
+        assertNull(reportJobService.getJob(expired.getId()).getResultUrl());
+    }
+
+    @Test
+    @DisplayName("Unknown format is rejected and unknown jobs are not found")
+    void testInvalidRequests() throws Exception {
+        mockMvc.perform(post("/api/v1/reports/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"format\":\"xml\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/reports/jobs/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private ReportJobDto awaitFinished(Long jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String body = mockMvc.perform(get("/api/v1/reports/jobs/{id}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            ReportJobDto job = objectMapper.readValue(body, ReportJobDto.class);
+            if (job.getStatus() == ReportJobStatus.COMPLETED || job.getStatus() == ReportJobStatus.FAILED) {
+                return job;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "Report job did not finish: " + job.getStatus());
+            Thread.sleep(50);
+        }
+    }
+
+    private String gunzip(byte[] data) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private StudentRequestDto studentRequest(String studentId, String lastName, Map<String, Integer> subjects) {
+        return StudentRequestDto.builder()
+                .firstName("First")
+                .lastName(lastName)
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .subjects(subjects)
+                .build();
+    }
+}
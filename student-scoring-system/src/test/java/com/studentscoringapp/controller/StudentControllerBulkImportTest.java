@@ -0,0 +1,102 @@
+package com.studentscoringapp.controller;
+
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.students.import.chunk-size=2")
+@AutoConfigureMockMvc
+@Transactional
+class StudentControllerBulkImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Test
+    @DisplayName("JSON array import reports the outcome of every row")
+    void testImportJsonArray() throws Exception {
+        studentRepository.save(Student.builder()
+                .firstName("Existing")
+                .lastName("Student")
+                .email("taken@example.com")
+                .studentId("ST000")
+                .build());
+
+        String body = "[" +
+                student("Ada", "ada@example.com", "ST001", 85) + "," +
+                student("Bob", "taken@example.com", "ST002", 70) + "," +
+                student("Cy", "cy@example.com", "ST003", 101) + "," +
+                student("Dee", "dee@example.com", "ST001", 60) + "," +
+                student("Eve", "eve@example.com", null, 90) +
+                "]";
+
+        mockMvc.perform(post("/api/v1/students/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(5))
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(3))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("Email already exists: taken@example.com"))
+                .andExpect(jsonPath("$.results[2].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[3].errors[0]").value("Student ID already exists: ST001"))
+                .andExpect(jsonPath("$.results[4].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[4].row").value(5));
+
+        assertEquals(3, studentRepository.count());
+        assertEquals(2, scoreRepository.count());
+        assertEquals(2, studentScoreSummaryRepository.count());
+    }
+
+    @Test
+    @DisplayName("NDJSON import stops at the first malformed row")
+    void testImportNdjson() throws Exception {
+        String body = student("Ada", "ada@example.com", "ST001", 85) + "\n" +
+                student("Bob", "bob@example.com", "ST002", 70) + "\n" +
+                student("Cy", "not-an-email", "ST003", 60) + "\n" +
+                "{\"firstName\": \n";
+
+        mockMvc.perform(post("/api/v1/students/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(4))
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.results[2].errors[0]").value("email: Email should be valid"))
+                .andExpect(jsonPath("$.results[3].row").value(4))
+                .andExpect(jsonPath("$.results[3].status").value("FAILED"));
+
+        assertEquals(2, studentRepository.count());
+    }
+
+    private String student(String firstName, String email, String studentId, int score) {
+        return String.format("{\"firstName\": \"%s\", \"lastName\": \"Tester\", \"email\": \"%s\", " +
+                        "\"studentId\": %s, \"subjects\": {\"Mathematics\": %d}}",
+                firstName, email, studentId == null ? "null" : "\"" + studentId + "\"", score);
+    }
+}
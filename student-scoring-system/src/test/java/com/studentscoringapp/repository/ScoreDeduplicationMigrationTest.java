@@ -0,0 +1,70 @@
+package com.studentscoringapp.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the V6 migration against PostgreSQL data that still holds duplicate subjects and checks
+ * that the summaries of the affected students are recomputed from the remaining rows.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ScoreDeduplicationMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("Removing duplicate subjects recomputes the summaries of the affected students")
+    void testDeduplicationRecomputesSummaries() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        migrate(dataSource, "5");
+        jdbcTemplate.update("INSERT INTO students (id, first_name, last_name, student_id) " +
+                "VALUES (1, 'Ada', 'Lovelace', 'ST001'), (2, 'Bob', 'Smith', 'ST002')");
+        // Student 1 stored Mathematics twice; the newer row (id 2) is the one kept
+        jdbcTemplate.update("INSERT INTO scores (id, student_id, subject, score) VALUES " +
+                "(1, 1, 'Mathematics', 40), (2, 1, 'Mathematics', 90), (3, 1, 'English', 70), (4, 2, 'English', 60)");
+        jdbcTemplate.update("INSERT INTO student_score_summary (student_id, score_count, total_score, mean_score, " +
+                "median_score, mode_score, highest_score, lowest_score) VALUES " +
+                "(1, 3, 200, 66.67, 70, 40, 90, 40), (2, 1, 60, 60, 60, 60, 60, 60)");
+
+        migrate(dataSource, "latest");
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scores", Integer.class));
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+                "SELECT * FROM student_score_summary WHERE student_id = 1");
+        assertEquals(2L, summary.get("score_count"));
+        assertEquals(160L, summary.get("total_score"));
+        assertEquals(80.0, summary.get("mean_score"));
+        assertEquals(80.0, summary.get("median_score"));
+        assertEquals(70, summary.get("mode_score"));
+        assertEquals(90, summary.get("highest_score"));
+        assertEquals(70, summary.get("lowest_score"));
+        assertNotNull(summary.get("updated_at"));
+
+        // Students without duplicates keep their summary as it was
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM student_score_summary WHERE student_id = 2", Object.class));
+    }
+
+    private void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/postgresql")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
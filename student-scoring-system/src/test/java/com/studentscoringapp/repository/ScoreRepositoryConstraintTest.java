@@ -0,0 +1,51 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ScoreRepositoryConstraintTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(Student.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .studentId("ST001")
+                .build());
+        scoreRepository.saveAndFlush(score("Mathematics", 90));
+    }
+
+    @Test
+    @DisplayName("A subject can only be stored once per student")
+    void testDuplicateSubjectIsRejected() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> scoreRepository.saveAndFlush(score("Mathematics", 80)));
+    }
+
+    private Score score(String subject, int value) {
+        return Score.builder()
+                .student(student)
+                .subject(subject)
+                .score(value)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the ON CONFLICT upsert against PostgreSQL with the schema from the migrations, including
+ * a subject inserted concurrently after the upsert's snapshot.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class ScoreRepositoryPostgresUpsertTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Upsert inserts new subjects and updates only changed ones")
+    void testUpsertScores() {
+        Student student = studentRepository.save(Student.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .studentId("ST001")
+                .build());
+        scoreRepository.saveAndFlush(Score.builder()
+                .student(student)
+                .subject("Mathematics")
+                .score(90)
+                .build());
+
+        long before = lastScoreId();
+        assertEquals(1, scoreRepository.upsertScores(student.getId(), Map.of("English", 80, "Mathematics", 90)));
+        long lastId = lastScoreId();
+        // nextval() is evaluated after NOT EXISTS filtered out Mathematics: one value for English only
+        assertEquals(before + 50, lastId);
+        assertEquals(1, scoreRepository.upsertScores(student.getId(), Map.of("English", 85)));
+        assertEquals(0, scoreRepository.upsertScores(student.getId(), Map.of("English", 85, "Mathematics", 90)));
+        entityManager.clear();
+
+        // Updates and unchanged rows take no value from the sequence
+        assertEquals(lastId, lastScoreId());
+
+        List<Score> scores = scoreRepository.findByStudentId(student.getId());
+        assertEquals(Map.of("Mathematics", 90, "English", 85), scores.stream()
+                .collect(Collectors.toMap(Score::getSubject, Score::getScore)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("A subject inserted concurrently after the upsert's snapshot is updated through ON CONFLICT")
+    void testConcurrentInsertTakesConflictPath() throws Exception {
+        jdbcTemplate.update("INSERT INTO students (id, first_name, last_name, student_id) " +
+                "VALUES (900001, 'Ada', 'Lovelace', 'ST900001')");
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (PreparedStatement insert = other.prepareStatement("INSERT INTO scores (id, student_id, subject, score) " +
+                    "VALUES (nextval('scores_seq'), 900001, 'Science', 60)")) {
+                insert.executeUpdate();
+            }
+
+            // NOT EXISTS does not see the uncommitted row, so the insert waits on the unique index
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            CompletableFuture<Integer> upsert = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(
+                    status -> scoreRepository.upsertScores(900001L, Map.of("Science", 70))));
+            awaitLockWait();
+            other.commit();
+
+            assertEquals(1, upsert.get(10, TimeUnit.SECONDS));
+        }
+
+        try {
+            assertEquals(70, jdbcTemplate.queryForObject(
+                    "SELECT score FROM scores WHERE student_id = 900001 AND subject = 'Science'", Integer.class));
+        } finally {
+            jdbcTemplate.update("DELETE FROM scores WHERE student_id = 900001");
+            jdbcTemplate.update("DELETE FROM students WHERE id = 900001");
+        }
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'",
+                Long.class) == 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "Upsert never waited for the concurrent insert");
+            Thread.sleep(20);
+        }
+    }
+
+    private long lastScoreId() {
+        return ((Number) entityManager.createNativeQuery("SELECT last_value FROM scores_seq")
+                .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ScoreRepositoryUpsertTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(Student.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .studentId("ST001")
+                .build());
+        scoreRepository.saveAll(List.of(score("Mathematics", 90), score("English", 80)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Upsert inserts new subjects and updates changed ones in one statement")
+    void testUpsertScores() {
+        Score english = scoreRepository.findByStudentIdAndSubject(student.getId(), "English").get(0);
+        entityManager.clear();
+
+        // Mathematics changes, English is unchanged and Science is new
+        int written = scoreRepository.upsertScores(student.getId(),
+                Map.of("Mathematics", 95, "English", 80, "Science", 70));
+        entityManager.clear();
+
+        assertEquals(2, written);
+        List<Score> scores = scoreRepository.findByStudentId(student.getId());
+        assertEquals(Map.of("Mathematics", 95, "English", 80, "Science", 70), scores.stream()
+                .collect(Collectors.toMap(Score::getSubject, Score::getScore)));
+        assertEquals(english.getUpdatedAt(),
+                scoreRepository.findByStudentIdAndSubject(student.getId(), "English").get(0).getUpdatedAt());
+
+        // Ids from the sequence do not collide with the ids Hibernate allocates
+        scoreRepository.saveAndFlush(score("History", 60));
+        assertEquals(4, scoreRepository.findByStudentId(student.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Only inserted subjects take a value from the id sequence")
+    void testUpsertTakesSequenceValuesForInsertsOnly() {
+        long before = nextScoreId();
+
+        scoreRepository.upsertScores(student.getId(), Map.of("Mathematics", 95, "English", 80));
+        assertEquals(before, nextScoreId());
+
+        scoreRepository.upsertScores(student.getId(), Map.of("Mathematics", 90, "Science", 70));
+        assertEquals(before + 50, nextScoreId());
+    }
+
+    @Test
+    @DisplayName("Upserting unchanged scores writes nothing")
+    void testUpsertUnchangedScores() {
+        assertEquals(0, scoreRepository.upsertScores(student.getId(), Map.of("Mathematics", 90, "English", 80)));
+        assertEquals(0, scoreRepository.upsertScores(student.getId(), Map.of()));
+    }
+
+    private long nextScoreId() {
+        return ((Number) entityManager.createNativeQuery(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = 'SCORES_SEQ'")
+                .getSingleResult()).longValue();
+    }
+
+    private Score score(String subject, int value) {
+        return Score.builder()
+                .student(student)
+                .subject(subject)
+                .score(value)
+                .build();
+    }
+}
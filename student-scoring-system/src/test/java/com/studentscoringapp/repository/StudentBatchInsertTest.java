@@ -0,0 +1,127 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.service.StudentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A fresh context starts the pooled ID optimizers at the beginning of a block
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+@Transactional
+class StudentBatchInsertTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Student with five subjects is inserted in two statements once IDs are pooled")
+    void testStudentAndScoresInsertedInBatches() {
+        // A new sequence hands out its start value on its own, then the optimizer fetches a block of 50 IDs
+        saveStudent("ST001");
+        saveStudent("ST002");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Student student = saveStudent("ST003");
+        entityManager.flush();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(6, statistics.getEntityInsertCount());
+        assertEquals(5, scoreRepository.findByStudentId(student.getId()).size());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Creating a student through the service writes student, scores, summary and count in six statements")
+    void testCreateStudentStatementCount() {
+        try {
+            // Pools the student and score IDs, as in the test above
+            createStudent("SV001");
+            createStudent("SV002");
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            createStudent("SV003");
+
+            // Two uniqueness checks, then one insert each for the student, the scores, the summary and
+            // the per-total count, the last one written just before commit
+            assertEquals(6, statistics.getPrepareStatementCount());
+            assertEquals(7, statistics.getEntityInsertCount());
+        } finally {
+            studentScoreSummaryRepository.deleteAllInBatch();
+            studentTotalCountRepository.deleteAllInBatch();
+            scoreRepository.deleteAllInBatch();
+            studentRepository.deleteAllInBatch();
+        }
+    }
+
+    private void createStudent(String studentId) {
+        studentService.createStudent(StudentRequestDto.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .subjects(Map.of("Mathematics", 80, "English", 80, "Science", 80, "History", 80, "Geography", 80))
+                .build());
+    }
+
+    private Student saveStudent(String studentId) {
+        Student student = studentRepository.save(Student.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .build());
+
+        List<Score> scores = Stream.of("Mathematics", "English", "Science", "History", "Geography")
+                .map(subject -> Score.builder()
+                        .student(student)
+                        .subject(subject)
+                        .score(80)
+                        .build())
+                .collect(Collectors.toList());
+        scoreRepository.saveAll(scores);
+        return student;
+    }
+}
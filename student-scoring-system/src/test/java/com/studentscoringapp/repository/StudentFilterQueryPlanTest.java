@@ -0,0 +1,111 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.repository.specification.StudentSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks against PostgreSQL that the student filter and cursor predicates built by
+ * StudentSpecifications are served by the indexes from the V4 and V10 migrations, and that the
+ * planner's row estimates back the estimated listing counts.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class StudentFilterQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentCountEstimator studentCountEstimator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO students (id, first_name, last_name, email, student_id) " +
+                "SELECT i, 'First' || i, 'Last' || i, 'student' || i || '@example.com', 'ST' || i " +
+                "FROM generate_series(1, 20000) AS i");
+        jdbcTemplate.execute("ANALYZE students");
+        // Keeps the plans independent of table size; a sequential scan now means no index applies
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("Substring filter uses the trigram index")
+    void testContainsFilterUsesTrigramIndex() {
+        String plan = explain("SELECT id FROM students WHERE lower(last_name) LIKE '%st123%' ESCAPE '\\'");
+
+        assertTrue(plan.contains("idx_students_last_name_trgm"), plan);
+    }
+
+    @Test
+    @DisplayName("Prefix filter uses an index on the lowered column")
+    void testPrefixFilterUsesIndex() {
+        String plan = explain("SELECT id FROM students WHERE lower(first_name) LIKE 'first123%' ESCAPE '\\'");
+
+        assertTrue(plan.contains("idx_students_first_name_"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("Exact email filter uses an index on lower(email)")
+    void testExactEmailFilterUsesIndex() {
+        String plan = explain("SELECT id FROM students WHERE lower(email) = 'student123@example.com'");
+
+        assertTrue(plan.contains("idx_students_email_"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("Count estimates come from planner statistics")
+    void testCountEstimates() {
+        long unfiltered = studentCountEstimator.estimate(StudentSpecifications.filterTerms(null, null, null))
+                .orElseThrow();
+        long exactEmail = studentCountEstimator.estimate(
+                StudentSpecifications.filterTerms(null, null, "student123@example.com")).orElseThrow();
+        long prefix = studentCountEstimator.estimate(StudentSpecifications.filterTerms("First1*", null, null))
+                .orElseThrow();
+
+        assertEquals(20000, unfiltered, 1000);
+        assertTrue(exactEmail < 10, "exact email estimate " + exactEmail);
+        assertTrue(prefix > 100 && prefix < 20000, "prefix estimate " + prefix);
+    }
+
+    @Test
+    @DisplayName("Deep cursor pages seek into the (column, id) index without sorting")
+    void testCursorPageSeeksIndex() {
+        // Same shape as StudentSpecifications.after for an ascending and a descending cursor
+        String ascending = explain("SELECT id FROM students WHERE last_name >= 'Last15000' " +
+                "AND (last_name > 'Last15000' OR id > 15000) ORDER BY last_name, id LIMIT 21");
+        String descending = explain("SELECT id FROM students WHERE created_at <= now() " +
+                "AND (created_at < now() OR id < 15000) ORDER BY created_at DESC, id DESC LIMIT 21");
+
+        assertTrue(ascending.contains("idx_students_last_name_id"), ascending);
+        assertFalse(ascending.contains("Sort"), ascending);
+        assertTrue(descending.contains("idx_students_created_at_id"), descending);
+        assertFalse(descending.contains("Sort"), descending);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentscoringapp.repository;
+
+import com.studentscoringapp.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class StudentRepositoryFilterTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        save("Anna", "Smith", "anna.smith@example.com", "ST001");
+        save("Annabel", "Goldsmith", "annabel@example.com", "ST002");
+        save("Joanna", "Smithers", "jo.anna@example.com", "ST003");
+        save("Zoe", "Per%cent", "zoe_1@example.com", "ST004");
+        save("Zed", "Percentage", "zoex1@example.com", "ST005");
+    }
+
+    @Test
+    @DisplayName("Plain value matches anywhere in the column, ignoring case")
+    void testContainsMatch() {
+        assertEquals(List.of("ST001", "ST002", "ST003"), find("ANNA", null, null));
+        assertEquals(List.of("ST001", "ST002", "ST003"), find(null, "smith", null));
+    }
+
+    @Test
+    @DisplayName("Trailing asterisk matches by prefix")
+    void testPrefixMatch() {
+        assertEquals(List.of("ST001", "ST002"), find("anna*", null, null));
+        assertEquals(List.of("ST001", "ST003"), find(null, "Smith*", null));
+        assertEquals(List.of("ST002"), find(null, null, "annabel*"));
+    }
+
+    @Test
+    @DisplayName("Complete email address matches exactly")
+    void testExactEmailMatch() {
+        assertEquals(List.of("ST001"), find(null, null, "Anna.Smith@example.com"));
+        assertTrue(find(null, null, "nna.smith@example.com").isEmpty());
+        assertEquals(List.of("ST001", "ST002", "ST003"), find(null, null, "anna"));
+    }
+
+    @Test
+    @DisplayName("LIKE wildcards in filter values are matched literally")
+    void testWildcardsAreEscaped() {
+        assertEquals(List.of("ST004"), find(null, "per%", null));
+        assertEquals(List.of("ST004"), find(null, null, "zoe_1"));
+    }
+
+    @Test
+    @DisplayName("Filters combine with AND")
+    void testCombinedFilters() {
+        assertEquals(List.of("ST001"), find("anna*", "smith*", null));
+    }
+
+    private List<String> find(String firstName, String lastName, String email) {
+        return studentRepository.findWithFilters(firstName, lastName, email, PageRequest.of(0, 10, Sort.by("id")))
+                .map(Student::getStudentId)
+                .getContent();
+    }
+
+    private void save(String firstName, String lastName, String email, String studentId) {
+        studentRepository.save(Student.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .studentId(studentId)
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package com.studentscoringapp.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentscoringapp.dto.StudentRankDto;
+import com.studentscoringapp.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks against PostgreSQL that a student's standing reads at most one count row per distinct
+ * total, so even the bottom-ranked student costs no more than the size of the score range, and
+ * that a ranking page seeks to its position however deep it is.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class StudentStandingQueryPlanTest {
+
+    private static final int CLASS_SIZE = 20000;
+
+    // Totals 0 to 500, as for five subjects scored out of 100
+    private static final int DISTINCT_TOTALS = 501;
+
+    // Same statement as StudentTotalCountRepository.findFromTotalDownward
+    private static final String COUNTS_QUERY = "SELECT total_score, student_count FROM student_total_counts " +
+            "WHERE total_score >= %d AND student_count > 0 ORDER BY total_score DESC";
+
+    // Same statement as StudentScoreSummaryRepository.findRankingAfter
+    private static final String RANKING_AFTER_QUERY = "SELECT ss.student_id, st.first_name, st.last_name, " +
+            "ss.total_score " +
+            "FROM student_score_summary ss JOIN students st ON st.id = ss.student_id " +
+            "WHERE ss.total_score <= %d AND (ss.total_score < %d OR ss.student_id > %d) " +
+            "ORDER BY ss.total_score DESC, ss.student_id LIMIT 20";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO students (id, first_name, last_name, email, student_id) " +
+                "SELECT i, 'First' || i, 'Last' || i, 'student' || i || '@example.com', 'ST' || i " +
+                "FROM generate_series(1, " + CLASS_SIZE + ") AS i");
+        jdbcTemplate.update("INSERT INTO student_score_summary (student_id, score_count, total_score, mean_score, " +
+                "median_score, mode_score, highest_score, lowest_score) " +
+                "SELECT i, 5, i % " + DISTINCT_TOTALS + ", 0, 0, 0, 0, 0 FROM generate_series(1, " + CLASS_SIZE + ") AS i");
+        jdbcTemplate.update("INSERT INTO student_total_counts (total_score, student_count) " +
+                "SELECT total_score, COUNT(*) FROM student_score_summary GROUP BY total_score");
+        jdbcTemplate.execute("ANALYZE students");
+        jdbcTemplate.execute("ANALYZE student_score_summary");
+        jdbcTemplate.execute("ANALYZE student_total_counts");
+    }
+
+    @Test
+    @DisplayName("Standing of the bottom-ranked student reads one count row per distinct total")
+    void testBottomStandingReadsCountsOnly() throws Exception {
+        long countRows = rowsRead(String.format(COUNTS_QUERY, 0), "student_total_counts");
+        assertTrue(countRows <= DISTINCT_TOTALS, "count rows read " + countRows);
+
+        // Student 501 has total 0, shared with every multiple of 501
+        long tied = CLASS_SIZE / DISTINCT_TOTALS;
+        StudentRankDto rank = rankingService.getStudentRank((long) DISTINCT_TOTALS);
+        assertEquals(CLASS_SIZE - tied + 1, rank.getRank());
+        assertEquals(CLASS_SIZE, rank.getClassSize());
+        assertEquals(0.0, rank.getPercentile());
+    }
+
+    @Test
+    @DisplayName("A deep ranking page seeks to its position instead of reading the rows before it")
+    void testDeepRankingPageSeeks() throws Exception {
+        // Near the bottom of the ranking: totals 1 and 0 are all that is left
+        long summaryRows = rowsRead(String.format(RANKING_AFTER_QUERY, 1, 1, 1), "student_score_summary");
+        assertTrue(summaryRows < 200, "summary rows read " + summaryRows);
+    }
+
+    private long rowsRead(String query, String relation) throws Exception {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + query, String.class);
+        return rowsRead(objectMapper.readTree(plan).path(0).path("Plan"), relation);
+    }
+
+    private long rowsRead(JsonNode node, String relation) {
+        long rows = relation.equals(node.path("Relation Name").asText()) ?
+                node.path("Actual Rows").asLong() * node.path("Actual Loops").asLong() : 0;
+        for (JsonNode child : node.path("Plans")) {
+            rows += rowsRead(child, relation);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,105 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.repository.projection.StudentRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelReportAssemblerTest {
+
+    private final ParallelReportAssembler assembler =
+            new ParallelReportAssembler(mock(PlatformTransactionManager.class), mock(DataSource.class), true, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        assembler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Chunks converted on different threads come back in page order")
+    void testKeepsPageOrder() {
+        List<StudentRow> students = LongStream.range(0, 1000)
+                .mapToObj(ParallelReportAssemblerTest::row)
+                .collect(Collectors.toList());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Long> ids = assembler.convert(students, chunk -> {
+            threads.add(Thread.currentThread().getName());
+            assertTrue(chunk.size() <= 10);
+            return chunk.stream().map(StudentRow::id).collect(Collectors.toList());
+        });
+
+        assertEquals(students.stream().map(StudentRow::id).collect(Collectors.toList()), ids);
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    @DisplayName("Small pages are converted on the calling thread in one call")
+    void testSmallPageRunsInline() {
+        List<StudentRow> students = List.of(row(1), row(2));
+
+        List<String> threads = assembler.convert(students, chunk -> List.of(Thread.currentThread().getName()));
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    @DisplayName("A failing chunk fails the whole page with its own exception")
+    void testPropagatesChunkFailure() {
+        List<StudentRow> students = LongStream.range(0, 100)
+                .mapToObj(ParallelReportAssemblerTest::row)
+                .collect(Collectors.toList());
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                assembler.convert(students, chunk -> {
+                    if (chunk.get(0).id() == 50) {
+                        throw new IllegalStateException("chunk failed");
+                    }
+                    return chunk;
+                }));
+        assertEquals("chunk failed", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Chunks of workers that get no connection are converted by the calling thread")
+    void testWorkersWithoutConnectionLeaveChunksToCaller() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        ParallelReportAssembler starved =
+                new ParallelReportAssembler(transactionManager, mock(DataSource.class), true, 4, 10);
+        List<StudentRow> students = LongStream.range(0, 100)
+                .mapToObj(ParallelReportAssemblerTest::row)
+                .collect(Collectors.toList());
+
+        try {
+            List<String> threads = starved.convert(students, chunk -> chunk.stream()
+                    .map(student -> Thread.currentThread().getName())
+                    .collect(Collectors.toList()));
+
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(Thread.currentThread().getName()::equals));
+        } finally {
+            starved.shutdown();
+        }
+    }
+
+    private static StudentRow row(long id) {
+        return new StudentRow(id, "First", "Last", null, "ST" + id, null, null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.StudentRankDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.dto.SubjectRankDto;
+import com.studentscoringapp.entity.StudentTotalCount;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.RankingService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import com.studentscoringapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the per-total student counts are written when a transaction commits
+@SpringBootTest
+class RankingServiceImplTest {
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentScoreSummaryService studentScoreSummaryService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Totals 150, 170, 170, 120 and 90: ranks 3, 1, 1, 4 and 5
+        int[][] scores = {{80, 70}, {90, 80}, {100, 70}, {60, 60}, {50, 40}};
+        for (int i = 0; i < scores.length; i++) {
+            studentIds.add(studentService.createStudent(StudentRequestDto.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .studentId("RK00" + i)
+                    .subjects(Map.of("Mathematics", scores[i][0], "English", scores[i][1]))
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Class ranking pages through totals with shared ranks for ties")
+    void testRanking() {
+        PagedResponse<StudentRankDto> firstPage = rankingService.getRanking(0, 3, null);
+
+        assertEquals(List.of(studentIds.get(1), studentIds.get(2), studentIds.get(0)),
+                firstPage.getContent().stream().map(StudentRankDto::getStudentId).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 1L, 3L),
+                firstPage.getContent().stream().map(StudentRankDto::getRank).collect(Collectors.toList()));
+        assertTrue(firstPage.isHasNext());
+        assertNull(firstPage.getTotalElements());
+
+        PagedResponse<StudentRankDto> secondPage = rankingService.getRanking(1, 3, null);
+
+        assertEquals(List.of(4L, 5L),
+                secondPage.getContent().stream().map(StudentRankDto::getRank).collect(Collectors.toList()));
+        assertEquals(90L, secondPage.getContent().get(1).getTotalScore());
+        assertFalse(secondPage.isHasNext());
+        assertTrue(secondPage.isLast());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Ranking cursor seeks to the rows after the previous page")
+    void testRankingCursor() {
+        PagedResponse<StudentRankDto> firstPage = rankingService.getRanking(0, 2, null);
+        assertNotNull(firstPage.getNextCursor());
+
+        PagedResponse<StudentRankDto> secondPage = rankingService.getRanking(0, 2, firstPage.getNextCursor());
+
+        assertEquals(1, secondPage.getPage());
+        assertEquals(List.of(studentIds.get(0), studentIds.get(3)),
+                secondPage.getContent().stream().map(StudentRankDto::getStudentId).collect(Collectors.toList()));
+        assertEquals(List.of(3L, 4L),
+                secondPage.getContent().stream().map(StudentRankDto::getRank).collect(Collectors.toList()));
+
+        PagedResponse<StudentRankDto> lastPage = rankingService.getRanking(0, 2, secondPage.getNextCursor());
+
+        assertEquals(List.of(5L),
+                lastPage.getContent().stream().map(StudentRankDto::getRank).collect(Collectors.toList()));
+        assertTrue(lastPage.isLast());
+        assertNull(lastPage.getNextCursor());
+        assertThrows(ValidationException.class, () -> rankingService.getRanking(0, 2, "not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Student rank includes the percentile within the class")
+    void testStudentRank() {
+        StudentRankDto rank = rankingService.getStudentRank(studentIds.get(0));
+
+        assertEquals(3L, rank.getRank());
+        assertEquals(150L, rank.getTotalScore());
+        assertEquals(5L, rank.getClassSize());
+        assertEquals(50.0, rank.getPercentile());
+
+        // Tied with the other top total, so one classmate is not ranked below
+        assertEquals(75.0, rankingService.getStudentRank(studentIds.get(1)).getPercentile());
+        assertEquals(0.0, rankingService.getStudentRank(studentIds.get(4)).getPercentile());
+        assertThrows(ResourceNotFoundException.class, () -> rankingService.getStudentRank(-1L));
+    }
+
+    @Test
+    @DisplayName("Class size follows students added after the first lookup")
+    void testClassSizeFollowsNewSummaries() {
+        assertEquals(5L, rankingService.getStudentRank(studentIds.get(0)).getClassSize());
+
+        studentService.createStudent(StudentRequestDto.builder()
+                .firstName("First5")
+                .lastName("Last5")
+                .studentId("RK005")
+                .subjects(Map.of("Mathematics", 10))
+                .build());
+
+        StudentRankDto rank = rankingService.getStudentRank(studentIds.get(0));
+        assertEquals(6L, rank.getClassSize());
+        assertEquals(60.0, rank.getPercentile());
+    }
+
+    @Test
+    @DisplayName("Ranks follow score updates, deletions and summary rebuilds")
+    void testRankFollowsTotalChanges() {
+        // 150 -> 200 moves the student to the top; the two former leaders share second place
+        studentService.updateStudent(studentIds.get(0), StudentRequestDto.builder()
+                .firstName("First0")
+                .lastName("Last0")
+                .studentId("RK000")
+                .subjects(Map.of("Mathematics", 100, "English", 100))
+                .build());
+
+        assertEquals(1L, rankingService.getStudentRank(studentIds.get(0)).getRank());
+        assertEquals(2L, rankingService.getStudentRank(studentIds.get(1)).getRank());
+
+        studentService.deleteStudent(studentIds.get(1));
+
+        StudentRankDto rank = rankingService.getStudentRank(studentIds.get(2));
+        assertEquals(2L, rank.getRank());
+        assertEquals(4L, rank.getClassSize());
+
+        studentScoreSummaryService.rebuildAllSummaries();
+
+        assertEquals(Map.of(200L, 1L, 170L, 1L, 120L, 1L, 90L, 1L), studentTotalCountRepository.findAll().stream()
+                .filter(count -> count.getStudentCount() != 0)
+                .collect(Collectors.toMap(StudentTotalCount::getTotalScore, StudentTotalCount::getStudentCount)));
+        assertEquals(4L, rankingService.getStudentRank(studentIds.get(4)).getRank());
+    }
+
+    @Test
+    @DisplayName("Top students per subject are limited and ranked by score")
+    void testTopBySubject() {
+        List<SubjectRankDto> top = rankingService.getTopBySubject("English", 3);
+
+        assertEquals(List.of(studentIds.get(1), studentIds.get(0), studentIds.get(2)),
+                top.stream().map(SubjectRankDto::getStudentId).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L, 2L),
+                top.stream().map(SubjectRankDto::getRank).collect(Collectors.toList()));
+        assertEquals("First1", top.get(0).getFirstName());
+
+        assertTrue(rankingService.getTopBySubject("Art", 3).isEmpty());
+        assertThrows(ValidationException.class, () -> rankingService.getTopBySubject("English", 0));
+    }
+}
@@ -0,0 +1,100 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.service.ReportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.reports.statistics-strategy=database")
+@Transactional
+class ReportServiceImplDatabaseStatisticsTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Database-computed statistics match the in-JVM calculations")
+    void testDatabaseStatistics() {
+        Student student = saveStudent("ST001", Map.of(
+                "Mathematics", 85, "English", 90, "Science", 78, "History", 90, "Geography", 88));
+        Student evenStudent = saveStudent("ST002", Map.of(
+                "Mathematics", 40, "English", 60, "Science", 70, "History", 100));
+        Student noScores = saveStudent("ST003", Map.of());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        PagedResponse<ReportDto> page = reportService.generateAllStudentsReport(
+                PageRequest.of(0, 10, Sort.by("studentId")));
+        List<ReportDto> reports = page.getContent();
+
+        assertEquals(3, reports.size());
+
+        ReportDto report = reports.get(0);
+        assertEquals(student.getId(), report.getStudentId());
+        assertEquals(5, report.getSubjectScores().size());
+        assertEquals(86.2, report.getMeanScore(), 1e-9);
+        assertEquals(88.0, report.getMedianScore());
+        assertEquals(90, report.getModeScore());
+        assertEquals(431, report.getTotalScore());
+        assertEquals(90, report.getHighestScore());
+        assertEquals(78, report.getLowestScore());
+
+        ReportDto evenReport = reports.get(1);
+        assertEquals(evenStudent.getId(), evenReport.getStudentId());
+        assertEquals(67.5, evenReport.getMeanScore(), 1e-9);
+        assertEquals(65.0, evenReport.getMedianScore());
+        assertEquals(270, evenReport.getTotalScore());
+        assertEquals(100, evenReport.getHighestScore());
+        assertEquals(40, evenReport.getLowestScore());
+
+        ReportDto emptyReport = reports.get(2);
+        assertEquals(noScores.getId(), emptyReport.getStudentId());
+        assertTrue(emptyReport.getSubjectScores().isEmpty());
+        assertEquals(0.0, emptyReport.getMeanScore());
+        assertEquals(0, emptyReport.getTotalScore());
+    }
+
+    private Student saveStudent(String studentId, Map<String, Integer> subjects) {
+        Student student = studentRepository.save(Student.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .build());
+
+        scoreRepository.saveAll(subjects.entrySet().stream()
+                .map(entry -> Score.builder()
+                        .student(student)
+                        .subject(entry.getKey())
+                        .score(entry.getValue())
+                        .build())
+                .toList());
+        return student;
+    }
+}
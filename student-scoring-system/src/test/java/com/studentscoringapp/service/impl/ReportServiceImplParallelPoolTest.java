@@ -0,0 +1,83 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The request holds the only connection, so no worker can get one while the page is built
+@SpringBootTest(properties = {
+        "app.reports.parallel.enabled=true",
+        "app.reports.parallel.threads=2",
+        "app.reports.parallel.chunk-size=2",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+class ReportServiceImplParallelPoolTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("A page completes without waiting on workers when the connection pool is exhausted")
+    void testParallelReportsWithExhaustedPool() {
+        IntStream.range(0, 9).forEach(i -> studentService.createStudent(StudentRequestDto.builder()
+                .firstName("First")
+                .lastName("Last" + i)
+                .email("pool" + i + "@example.com")
+                .studentId("POOL00" + i)
+                .subjects(Map.of("Mathematics", 50 + i))
+                .build()));
+
+        PagedResponse<ReportDto> page = assertTimeoutPreemptively(Duration.ofSeconds(4), () ->
+                reportService.generateFilteredReport(null, "Last*", null,
+                        PageRequest.of(0, 9, Sort.by("lastName"))));
+
+        assertEquals(IntStream.range(0, 9).mapToObj(i -> "Last" + i).collect(Collectors.toList()),
+                page.getContent().stream().map(ReportDto::getLastName).collect(Collectors.toList()));
+        assertEquals(Map.of("Mathematics", 58), page.getContent().get(8).getSubjectScores());
+    }
+}
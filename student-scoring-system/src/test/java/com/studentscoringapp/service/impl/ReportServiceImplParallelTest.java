@@ -0,0 +1,85 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Worker chunks read in their own transactions, so the students are committed and removed afterwards
+@SpringBootTest(properties = {
+        "app.reports.parallel.enabled=true",
+        "app.reports.parallel.threads=2",
+        "app.reports.parallel.chunk-size=2"
+})
+class ReportServiceImplParallelTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Reports assembled in parallel chunks follow the requested sort")
+    void testParallelReportsKeepSortOrder() {
+        IntStream.range(0, 9).forEach(i -> studentService.createStudent(StudentRequestDto.builder()
+                .firstName("First")
+                .lastName("Last" + i)
+                .email("parallel" + i + "@example.com")
+                .studentId("PAR00" + i)
+                .subjects(Map.of("Mathematics", 50 + i, "English", 60 + i))
+                .build()));
+
+        PagedResponse<ReportDto> page = reportService.generateFilteredReport(null, "Last*", null,
+                PageRequest.of(0, 9, Sort.by(Sort.Direction.DESC, "lastName")));
+
+        List<ReportDto> reports = page.getContent();
+        assertEquals(9, page.getTotalElements());
+        assertEquals(IntStream.range(0, 9).map(i -> 8 - i).mapToObj(i -> "Last" + i).collect(Collectors.toList()),
+                reports.stream().map(ReportDto::getLastName).collect(Collectors.toList()));
+        for (ReportDto report : reports) {
+            int i = Integer.parseInt(report.getLastName().substring(4));
+            assertEquals(Map.of("Mathematics", 50 + i, "English", 60 + i), report.getSubjectScores());
+            assertEquals(110 + 2 * i, report.getTotalScore());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.SubjectStatisticsDto;
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.service.ReportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ReportServiceImplTest {
+
+    private static final String[] SUBJECTS = {"Mathematics", "English", "Science", "History", "Geography"};
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 60; i++) {
+            Student student = studentRepository.save(Student.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("student" + i + "@example.com")
+                    .studentId(String.format("ST%03d", i))
+                    .build());
+
+            List<Score> scores = new ArrayList<>();
+            for (int j = 0; j < SUBJECTS.length; j++) {
+                scores.add(Score.builder()
+                        .student(student)
+                        .subject(SUBJECTS[j])
+                        .score((i + j * 7) % 101)
+                        .build());
+            }
+            scoreRepository.saveAll(scores);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Report page issues a constant number of statements regardless of page size")
+    void testAllStudentsReportStatementCountIsConstant() {
+        PagedResponse<ReportDto> smallPage = reportService.generateAllStudentsReport(
+                PageRequest.of(0, 10, Sort.by("id")));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<ReportDto> largePage = reportService.generateAllStudentsReport(
+                PageRequest.of(0, 50, Sort.by("id")));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(10, smallPage.getContent().size());
+        assertEquals(50, largePage.getContent().size());
+        // One query for the student page, one for the total count, one for the scores
+        assertEquals(3, smallPageStatements);
+        assertEquals(3, largePageStatements);
+    }
+
+    @Test
+    @DisplayName("Filtered report page issues a constant number of statements")
+    void testFilteredReportStatementCountIsConstant() {
+        PagedResponse<ReportDto> page = reportService.generateFilteredReport(
+                "First", null, null, PageRequest.of(0, 25, Sort.by("id")));
+
+        assertEquals(25, page.getContent().size());
+        assertEquals(60, page.getTotalElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Batched report matches the single student report")
+    void testBatchedReportMatchesSingleStudentReport() {
+        PagedResponse<ReportDto> page = reportService.generateAllStudentsReport(
+                PageRequest.of(1, 20, Sort.by("id")));
+
+        for (ReportDto report : page.getContent()) {
+            ReportDto single = reportService.generateStudentReport(report.getStudentId());
+            assertEquals(single, report);
+            assertEquals(SUBJECTS.length, report.getSubjectScores().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Report reads map rows straight into DTOs without managed entities")
+    void testReportsLoadNoEntities() {
+        PagedResponse<ReportDto> page = reportService.generateAllStudentsReport(PageRequest.of(0, 20, Sort.by("id")));
+        reportService.generateStudentReport(page.getContent().get(0).getStudentId());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    @DisplayName("Subject statistics are aggregated by the database without loading scores")
+    void testSubjectStatisticsUseOneAggregateQuery() {
+        SubjectStatisticsDto statisticsDto = reportService.generateSubjectStatistics("Mathematics");
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        // Mathematics scores are 0..59, each once
+        assertEquals(60, statisticsDto.getScoreCount());
+        assertEquals(29.5, statisticsDto.getMeanScore());
+        assertEquals(29.5, statisticsDto.getMedianScore());
+        assertEquals(0, statisticsDto.getModeScore());
+        assertEquals(0, statisticsDto.getLowestScore());
+        assertEquals(59, statisticsDto.getHighestScore());
+        assertEquals(Math.sqrt((60 * 60 - 1) / 12.0), statisticsDto.getStandardDeviation(), 1e-9);
+        assertEquals(14.75, statisticsDto.getQuantiles().get("p25"));
+        assertEquals(101, statisticsDto.getHistogram().size());
+        assertEquals(1L, statisticsDto.getHistogram().get(59));
+        assertEquals(0L, statisticsDto.getHistogram().get(60));
+
+        assertThrows(ResourceNotFoundException.class, () -> reportService.generateSubjectStatistics("Art"));
+    }
+}
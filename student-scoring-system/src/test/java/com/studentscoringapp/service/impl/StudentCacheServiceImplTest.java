@@ -0,0 +1,163 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.config.CacheConfig;
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.dto.StudentResponseDto;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.repository.StudentTotalCountRepository;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import com.studentscoringapp.service.StudentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Eviction is repeated after commit, so the data is committed and removed afterwards
+@SpringBootTest
+class StudentCacheServiceImplTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private StudentTotalCountRepository studentTotalCountRepository;
+
+    @Autowired
+    private StudentScoreSummaryService studentScoreSummaryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        studentId = studentService.createStudent(StudentRequestDto.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email("ada.cache@example.com")
+                .studentId("CACHE001")
+                .subjects(Map.of("Mathematics", 90, "English", 80))
+                .build()).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentScoreSummaryRepository.deleteAllInBatch();
+        studentTotalCountRepository.deleteAllInBatch();
+        scoreRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("Repeated student and report lookups are served from the cache")
+    void repeatedLookupsAreServedFromCache() {
+        StudentResponseDto student = studentService.getStudentById(studentId);
+        ReportDto report = reportService.generateStudentReport(studentId);
+
+        statistics.clear();
+        assertEquals(student, studentService.getStudentById(studentId));
+        assertEquals(report, reportService.generateStudentReport(studentId));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        assertTrue(meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfig.STUDENTS, "result", "hit")
+                .functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Score updates evict only the affected student")
+    void scoreUpdateEvictsStudent() {
+        Long otherId = studentService.createStudent(StudentRequestDto.builder()
+                .firstName("Alan")
+                .lastName("Turing")
+                .email("alan.cache@example.com")
+                .studentId("CACHE002")
+                .subjects(Map.of("Mathematics", 70))
+                .build()).getId();
+        studentService.getStudentById(studentId);
+        reportService.generateStudentReport(studentId);
+        studentService.getStudentById(otherId);
+
+        studentService.updateScore(studentId, "Mathematics", 60);
+
+        assertNull(cacheManager.getCache(CacheConfig.STUDENTS).get(studentId));
+        assertNull(cacheManager.getCache(CacheConfig.STUDENT_REPORTS).get(studentId));
+        assertNotNull(cacheManager.getCache(CacheConfig.STUDENTS).get(otherId));
+        assertEquals(60, studentService.getStudentById(studentId).getSubjects().get("Mathematics"));
+        assertEquals(60, reportService.generateStudentReport(studentId).getSubjectScores().get("Mathematics"));
+    }
+
+    @Test
+    @DisplayName("Updating and deleting a student evicts its cached entries")
+    void updateAndDeleteEvictStudent() {
+        studentService.getStudentById(studentId);
+        reportService.generateStudentReport(studentId);
+
+        studentService.updateStudent(studentId, StudentRequestDto.builder()
+                .firstName("Augusta")
+                .lastName("Lovelace")
+                .email("ada.cache@example.com")
+                .studentId("CACHE001")
+                .subjects(Map.of("Mathematics", 90, "English", 80))
+                .build());
+
+        assertEquals("Augusta", studentService.getStudentById(studentId).getFirstName());
+        assertEquals("Augusta", reportService.generateStudentReport(studentId).getFirstName());
+
+        studentService.deleteStudent(studentId);
+
+        assertThrows(ResourceNotFoundException.class, () -> studentService.getStudentById(studentId));
+        assertThrows(ResourceNotFoundException.class, () -> reportService.generateStudentReport(studentId));
+    }
+
+    @Test
+    @DisplayName("Rebuilding the summaries evicts the cached reports of the rebuilt students")
+    void rebuildEvictsReports() {
+        reportService.generateStudentReport(studentId);
+        assertNotNull(cacheManager.getCache(CacheConfig.STUDENT_REPORTS).get(studentId));
+
+        studentScoreSummaryService.rebuildAllSummaries();
+
+        assertNull(cacheManager.getCache(CacheConfig.STUDENT_REPORTS).get(studentId));
+        assertEquals(170, reportService.generateStudentReport(studentId).getTotalScore());
+    }
+}
@@ -0,0 +1,156 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.repository.projection.StudentRow;
+import com.studentscoringapp.service.CountMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class StudentPageLoaderTest {
+
+    @Autowired
+    private StudentPageLoader studentPageLoader;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 23; i++) {
+            studentRepository.save(Student.builder()
+                    .firstName("First" + i)
+                    // Repeated last names exercise the id tie-break
+                    .lastName("Last" + (i % 4))
+                    // Every third student has no email to exercise null ordering
+                    .email(i % 3 == 0 ? null : "student" + (i * 7 % 23) + "@example.com")
+                    .studentId(String.format("ST%03d", i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Cursor pages visit the same students in the same order as offset pages")
+    void testCursorPagesMatchOffsetPages() {
+        for (String sortBy : List.of("id", "lastName", "email")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                assertEquals(walkOffsetPages(sortBy, direction), walkCursorPages(sortBy, direction),
+                        sortBy + " " + direction);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cursor page without a count runs a single query")
+    void testCursorPageWithoutCount() {
+        PagedResponse<Long> first = load(PageRequest.of(0, 5, Sort.by("email")), null, CountMode.EXACT);
+        assertEquals(23L, first.getTotalElements());
+        assertEquals(5, first.getTotalPages());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PagedResponse<Long> second = load(PageRequest.of(0, 5), first.getNextCursor(), CountMode.NONE);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, second.getPage());
+        assertEquals(CountMode.NONE, second.getCountMode());
+        assertNull(second.getTotalElements());
+        assertNull(second.getTotalPages());
+        assertTrue(second.isHasPrevious());
+        assertTrue(second.isHasNext());
+        assertNotNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Estimated count falls back to an exact count on databases without planner estimates")
+    void testEstimatedCountFallsBackToExact() {
+        PagedResponse<Long> page = load(PageRequest.of(1, 5, Sort.by("id")), null, CountMode.ESTIMATED);
+
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        assertEquals(23L, page.getTotalElements());
+        assertEquals(5, page.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Filters apply to cursor pages")
+    void testCursorPagesWithFilters() {
+        PagedResponse<Long> first = studentPageLoader.loadPage(null, "Last1", null,
+                PageRequest.of(0, 4, Sort.by("id")), null, CountMode.EXACT, this::ids);
+        PagedResponse<Long> second = studentPageLoader.loadPage(null, "Last1", null,
+                PageRequest.of(0, 4), first.getNextCursor(), CountMode.EXACT, this::ids);
+
+        assertEquals(6L, second.getTotalElements());
+        assertEquals(2, second.getContent().size());
+        assertTrue(second.isLast());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Malformed cursor is rejected")
+    void testMalformedCursor() {
+        assertThrows(ValidationException.class, () -> load(PageRequest.of(0, 5), "not-a-cursor", CountMode.NONE));
+    }
+
+    private List<Long> walkOffsetPages(String sortBy, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        PagedResponse<Long> page;
+        int number = 0;
+        do {
+            page = load(PageRequest.of(number++, 5, Sort.by(direction, sortBy)), null, CountMode.NONE);
+            ids.addAll(page.getContent());
+        } while (page.isHasNext());
+        return ids;
+    }
+
+    private List<Long> walkCursorPages(String sortBy, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        PagedResponse<Long> page = load(PageRequest.of(0, 5, Sort.by(direction, sortBy)), null, CountMode.NONE);
+        ids.addAll(page.getContent());
+        while (page.getNextCursor() != null) {
+            page = load(PageRequest.of(0, 5), page.getNextCursor(), CountMode.NONE);
+            ids.addAll(page.getContent());
+        }
+        assertEquals(4, page.getPage());
+        return ids;
+    }
+
+    private PagedResponse<Long> load(Pageable pageable, String cursor, CountMode countMode) {
+        return studentPageLoader.loadPage(null, null, null, pageable, cursor, countMode, this::ids);
+    }
+
+    private List<Long> ids(List<StudentRow> students) {
+        return students.stream()
+                .map(StudentRow::id)
+                .collect(Collectors.toList());
+    }
+}
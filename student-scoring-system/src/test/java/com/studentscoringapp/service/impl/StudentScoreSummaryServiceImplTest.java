@@ -0,0 +1,97 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.ReportDto;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.dto.StudentResponseDto;
+import com.studentscoringapp.entity.StudentScoreSummary;
+import com.studentscoringapp.repository.StudentScoreSummaryRepository;
+import com.studentscoringapp.service.ReportService;
+import com.studentscoringapp.service.StudentScoreSummaryService;
+import com.studentscoringapp.service.StudentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.reports.statistics-strategy=summary")
+@Transactional
+class StudentScoreSummaryServiceImplTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StudentScoreSummaryService studentScoreSummaryService;
+
+    @Autowired
+    private StudentScoreSummaryRepository studentScoreSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Summary is written with the student and follows score updates")
+    void testSummaryMaintainedOnWrite() {
+        StudentResponseDto created = studentService.createStudent(request("ST001", Map.of(
+                "Mathematics", 85, "English", 90, "Science", 78, "History", 90, "Geography", 88)));
+        entityManager.flush();
+        entityManager.clear();
+
+        StudentScoreSummary summary = studentScoreSummaryRepository.findById(created.getId()).orElseThrow();
+        assertEquals(5, summary.getScoreCount());
+        assertEquals(431, summary.getTotalScore());
+        assertEquals(90, summary.getModeScore());
+
+        studentService.updateStudent(created.getId(), request("ST001", Map.of(
+                "Mathematics", 40, "English", 60, "Science", 70, "History", 100)));
+        entityManager.flush();
+        entityManager.clear();
+
+        ReportDto report = reportService.generateStudentReport(created.getId());
+        assertEquals(270, report.getTotalScore());
+        assertEquals(65.0, report.getMedianScore());
+        assertEquals(100, report.getHighestScore());
+        assertEquals(40, report.getLowestScore());
+
+        studentService.deleteStudent(created.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(studentScoreSummaryRepository.findById(created.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rebuild backfills summaries that are missing or stale")
+    void testRebuildAllSummaries() {
+        StudentResponseDto first = studentService.createStudent(request("ST001", Map.of("Mathematics", 50)));
+        StudentResponseDto second = studentService.createStudent(request("ST002", Map.of()));
+        entityManager.flush();
+        studentScoreSummaryRepository.deleteAllInBatch();
+        entityManager.clear();
+
+        long rebuilt = studentScoreSummaryService.rebuildAllSummaries();
+
+        assertEquals(2, rebuilt);
+        assertEquals(50, studentScoreSummaryRepository.findById(first.getId()).orElseThrow().getTotalScore());
+        assertEquals(0, studentScoreSummaryRepository.findById(second.getId()).orElseThrow().getScoreCount());
+    }
+
+    private StudentRequestDto request(String studentId, Map<String, Integer> subjects) {
+        return StudentRequestDto.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(studentId.toLowerCase() + "@example.com")
+                .studentId(studentId)
+                .subjects(subjects)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.studentscoringapp.service.impl;
+
+import com.studentscoringapp.dto.PagedResponse;
+import com.studentscoringapp.dto.StudentRequestDto;
+import com.studentscoringapp.dto.StudentResponseDto;
+import com.studentscoringapp.entity.Score;
+import com.studentscoringapp.entity.Student;
+import com.studentscoringapp.exception.ResourceNotFoundException;
+import com.studentscoringapp.exception.ValidationException;
+import com.studentscoringapp.repository.ScoreRepository;
+import com.studentscoringapp.repository.StudentRepository;
+import com.studentscoringapp.service.StudentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class StudentServiceImplTest {
+
+    private static final String[] SUBJECTS = {"Mathematics", "English", "Science", "History", "Geography"};
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 120; i++) {
+            Student student = studentRepository.save(Student.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("student" + i + "@example.com")
+                    .studentId(String.format("ST%03d", i))
+                    .build());
+
+            List<Score> scores = new ArrayList<>();
+            for (int j = 0; j < SUBJECTS.length; j++) {
+                scores.add(Score.builder()
+                        .student(student)
+                        .subject(SUBJECTS[j])
+                        .score((i * 3 + j) % 101)
+                        .build());
+            }
+            scoreRepository.saveAll(scores);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Student listing issues a constant number of statements regardless of page size")
+    void testGetAllStudentsStatementCountIsConstant() {
+        PagedResponse<StudentResponseDto> smallPage = studentService.getAllStudents(
+                PageRequest.of(0, 10, Sort.by("id")));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<StudentResponseDto> largePage = studentService.getAllStudents(
+                PageRequest.of(0, 100, Sort.by("id")));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(10, smallPage.getContent().size());
+        assertEquals(100, largePage.getContent().size());
+        // One query for the student page, one for the total count, one for the scores
+        assertEquals(3, smallPageStatements);
+        assertEquals(3, largePageStatements);
+        largePage.getContent().forEach(student -> assertEquals(SUBJECTS.length, student.getSubjects().size()));
+    }
+
+    @Test
+    @DisplayName("Paged student matches the single student lookup")
+    void testPagedStudentMatchesGetById() {
+        PagedResponse<StudentResponseDto> page = studentService.getStudentsWithFilters(
+                null, "Last1", null, PageRequest.of(0, 5, Sort.by("id")));
+
+        assertFalse(page.getContent().isEmpty());
+        for (StudentResponseDto student : page.getContent()) {
+            assertEquals(studentService.getStudentById(student.getId()), student);
+        }
+    }
+
+    @Test
+    @DisplayName("Update writes only the scores that changed")
+    void testUpdateStudentWritesOnlyChangedScores() {
+        Student student = studentRepository.findAll(Sort.by("id")).get(0);
+        Map<Long, Score> scoresBefore = scoreRepository.findByStudentId(student.getId()).stream()
+                .collect(Collectors.toMap(Score::getId, Function.identity()));
+        Map<String, Integer> subjects = scoresBefore.values().stream()
+                .collect(Collectors.toMap(Score::getSubject, Score::getScore));
+        entityManager.clear();
+        statistics.clear();
+
+        // One changed, one removed, one added and three untouched
+        subjects.put("Mathematics", (subjects.get("Mathematics") + 1) % 101);
+        subjects.remove("Geography");
+        subjects.put("Art", 75);
+
+        StudentResponseDto updated = studentService.updateStudent(student.getId(), StudentRequestDto.builder()
+                .firstName(student.getFirstName())
+                .lastName(student.getLastName())
+                .email(student.getEmail())
+                .studentId(student.getStudentId())
+                .subjects(subjects)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(subjects, updated.getSubjects());
+        // Scores are written by one upsert and one delete, without loading them
+        EntityStatistics scoreStatistics = statistics.getEntityStatistics(Score.class.getName());
+        assertEquals(0, scoreStatistics.getLoadCount());
+        assertEquals(0, scoreStatistics.getInsertCount());
+        assertEquals(0, statistics.getEntityStatistics(Student.class.getName()).getUpdateCount());
+
+        Map<String, Score> scoresAfter = scoreRepository.findByStudentId(student.getId()).stream()
+                .collect(Collectors.toMap(Score::getSubject, Function.identity()));
+        assertEquals(subjects, scoresAfter.values().stream()
+                .collect(Collectors.toMap(Score::getSubject, Score::getScore)));
+
+        // Exactly one row was updated in place, one deleted and one inserted; the rest kept their timestamps
+        Map<String, Score> scoresBeforeBySubject = scoresBefore.values().stream()
+                .collect(Collectors.toMap(Score::getSubject, Function.identity()));
+        assertFalse(scoresAfter.containsKey("Geography"));
+        assertFalse(scoresBefore.containsKey(scoresAfter.get("Art").getId()));
+        List<String> rewritten = new ArrayList<>();
+        for (Score score : scoresAfter.values()) {
+            Score before = scoresBeforeBySubject.get(score.getSubject());
+            if (before == null) {
+                continue;
+            }
+            assertEquals(before.getId(), score.getId());
+            assertEquals(before.getCreatedAt(), score.getCreatedAt());
+            if (!before.getUpdatedAt().equals(score.getUpdatedAt())) {
+                assertTrue(score.getUpdatedAt().isAfter(before.getUpdatedAt()));
+                rewritten.add(score.getSubject());
+            }
+        }
+        assertEquals(List.of("Mathematics"), rewritten);
+    }
+
+    @Test
+    @DisplayName("Score patch updates only the targeted row without loading the student")
+    void testUpdateScoreTouchesOnlyTargetedRow() {
+        Student student = studentRepository.findAll(Sort.by("id")).get(0);
+        Map<String, Score> scoresBefore = scoreRepository.findByStudentId(student.getId()).stream()
+                .collect(Collectors.toMap(Score::getSubject, Function.identity()));
+        int newScore = (scoresBefore.get("English").getScore() + 7) % 101;
+        entityManager.clear();
+        statistics.clear();
+
+        studentService.updateScore(student.getId(), "English", newScore);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, statistics.getEntityStatistics(Student.class.getName()).getLoadCount());
+        for (Score score : scoreRepository.findByStudentId(student.getId())) {
+            if (score.getSubject().equals("English")) {
+                assertEquals(newScore, score.getScore());
+            } else {
+                assertEquals(scoresBefore.get(score.getSubject()).getUpdatedAt(), score.getUpdatedAt());
+            }
+        }
+        assertEquals(newScore, studentService.getStudentById(student.getId()).getSubjects().get("English"));
+    }
+
+    @Test
+    @DisplayName("Score patch reports a missing student or subject as not found")
+    void testUpdateScoresNotFound() {
+        Student student = studentRepository.findAll(Sort.by("id")).get(0);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> studentService.updateScores(student.getId(), Map.of("Mathematics", 50, "Latin", 60)));
+        assertThrows(ResourceNotFoundException.class,
+                () -> studentService.updateScore(-1L, "Mathematics", 50));
+        assertThrows(ValidationException.class,
+                () -> studentService.updateScore(student.getId(), "Mathematics", 101));
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentscoringapp.util;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests comparing ScoreHistogram with statistics computed from the individual scores
+ */
+class ScoreHistogramTest {
+
+    @Property(tries = 2000)
+    @Label("Matches the statistics of the individual scores")
+    void matchesIndividualScores(@ForAll @Size(min = 1, max = 300) List<@IntRange(min = 0, max = 100) Integer> scores) {
+        ScoreHistogram histogram = histogramOf(scores);
+        List<Integer> sorted = scores.stream().sorted().collect(Collectors.toList());
+
+        assertEquals(scores.size(), histogram.getCount());
+        assertEquals(StatisticsUtil.calculateMean(scores), histogram.getMean(), 1e-9);
+        assertEquals(StatisticsUtil.calculateMedian(scores), histogram.getMedian());
+        assertEquals(StatisticsUtil.findMax(scores), histogram.getMax());
+        assertEquals(StatisticsUtil.findMin(scores), histogram.getMin());
+        assertEquals(sorted.get(0).doubleValue(), histogram.getQuantile(0.0));
+        assertEquals(sorted.get(sorted.size() - 1).doubleValue(), histogram.getQuantile(1.0));
+
+        double mean = StatisticsUtil.calculateMean(scores);
+        double variance = scores.stream()
+                .mapToDouble(score -> (score - mean) * (score - mean))
+                .sum() / scores.size();
+        assertEquals(Math.sqrt(variance), histogram.getStandardDeviation(), 1e-9);
+
+        long modeFrequency = histogram.getCounts().get(histogram.getMode());
+        assertTrue(histogram.getCounts().stream().allMatch(frequency -> frequency <= modeFrequency));
+    }
+
+    @Example
+    @Label("Quantiles interpolate between the nearest ranks")
+    void interpolatesQuantiles() {
+        ScoreHistogram histogram = histogramOf(List.of(10, 20, 30, 40));
+
+        assertEquals(17.5, histogram.getQuantile(0.25));
+        assertEquals(25.0, histogram.getMedian());
+        assertEquals(37.0, histogram.getQuantile(0.9));
+    }
+
+    @Example
+    @Label("Mode ties resolve to the lowest score")
+    void modeTiesResolveToLowestScore() {
+        ScoreHistogram histogram = histogramOf(List.of(90, 40, 90, 40, 70));
+
+        assertEquals(40, histogram.getMode());
+    }
+
+    @Example
+    @Label("Empty histogram reports zeros")
+    void emptyHistogram() {
+        ScoreHistogram histogram = new ScoreHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0.0, histogram.getMedian());
+        assertEquals(0.0, histogram.getStandardDeviation());
+        assertEquals(101, histogram.getCounts().size());
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(101, 1));
+    }
+
+    private ScoreHistogram histogramOf(List<Integer> scores) {
+        ScoreHistogram histogram = new ScoreHistogram();
+        scores.stream()
+                .collect(Collectors.groupingBy(score -> score, Collectors.counting()))
+                .forEach(histogram::add);
+        return histogram;
+    }
+}
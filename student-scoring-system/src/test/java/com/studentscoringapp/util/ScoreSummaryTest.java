@@ -0,0 +1,101 @@
+package com.studentscoringapp.util;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import net.jqwik.api.Example;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests proving ScoreSummary returns exactly what the StatisticsUtil methods return
+ */
+class ScoreSummaryTest {
+
+    @Property(tries = 2000)
+    @Label("Matches StatisticsUtil for any list of valid scores")
+    void matchesStatisticsUtil(@ForAll @Size(max = 300) List<@IntRange(min = 0, max = 100) Integer> scores) {
+        assertMatchesStatisticsUtil(scores);
+    }
+
+    @Property(tries = 2000)
+    @Label("Matches StatisticsUtil when scores collide in the same hash bucket")
+    void matchesStatisticsUtilWithTies(@ForAll("collidingScores") List<Integer> scores) {
+        assertMatchesStatisticsUtil(scores);
+    }
+
+    @Property(tries = 2000)
+    @Label("Matches StatisticsUtil around the hash table resize thresholds")
+    void matchesStatisticsUtilAroundResize(@ForAll("manyDistinctScores") List<Integer> scores) {
+        assertMatchesStatisticsUtil(scores);
+    }
+
+    @Example
+    @Label("Empty input reports zeros")
+    void emptyInput() {
+        ScoreSummary summary = ScoreSummary.of(new int[0]);
+
+        assertEquals(0, summary.getCount());
+        assertEquals(0.0, summary.getMean());
+        assertEquals(0.0, summary.getMedian());
+        assertEquals(0, summary.getMode());
+        assertEquals(0, summary.getTotal());
+        assertEquals(0, summary.getMax());
+        assertEquals(0, summary.getMin());
+    }
+
+    @Example
+    @Label("Reset clears all accumulated scores")
+    void resetClearsState() {
+        ScoreSummary summary = ScoreSummary.of(new int[]{90, 90, 10});
+        summary.reset();
+        summary.add(42);
+
+        assertEquals(1, summary.getCount());
+        assertEquals(42, summary.getMode());
+        assertEquals(42, summary.getMin());
+        assertEquals(42.0, summary.getMedian());
+    }
+
+    @Example
+    @Label("Out of range scores are rejected")
+    void rejectsOutOfRangeScores() {
+        ScoreSummary summary = new ScoreSummary();
+
+        assertThrows(IllegalArgumentException.class, () -> summary.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> summary.add(101));
+    }
+
+    @Provide
+    Arbitrary<List<Integer>> collidingScores() {
+        // Values sharing a bucket for 16- and 32-slot tables
+        return Arbitraries.of(0, 16, 32, 48, 64, 80, 96, 5, 21, 37, 53, 69, 85, 100)
+                .list().ofMinSize(1).ofMaxSize(40);
+    }
+
+    @Provide
+    Arbitrary<List<Integer>> manyDistinctScores() {
+        return Arbitraries.integers().between(0, 100)
+                .list().ofMinSize(10).ofMaxSize(120);
+    }
+
+    private void assertMatchesStatisticsUtil(List<Integer> scores) {
+        int[] values = scores.stream().mapToInt(Integer::intValue).toArray();
+        ScoreSummary summary = ScoreSummary.of(values);
+
+        assertEquals(scores.size(), summary.getCount());
+        assertEquals(StatisticsUtil.calculateMean(scores), summary.getMean());
+        assertEquals(StatisticsUtil.calculateMedian(scores), summary.getMedian());
+        assertEquals(StatisticsUtil.calculateMode(scores), summary.getMode());
+        assertEquals(StatisticsUtil.calculateTotal(scores), summary.getTotal());
+        assertEquals(StatisticsUtil.findMax(scores), summary.getMax());
+        assertEquals(StatisticsUtil.findMin(scores), summary.getMin());
+    }
+}